@@ -0,0 +1,23 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
+dependencies {
+    jmh(projects.viabackwardsCommon)
+    jmh(libs.viaver)
+    jmh(libs.netty)
+    jmh(libs.guava)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    // avgt gives ns/chunk, sample gives the latency percentiles (p0.99 in the results table)
+    benchmarkMode.set(listOf("avgt", "sample"))
+    timeUnit.set("ns")
+    // gc.alloc.rate.norm is the number of bytes allocated per translated chunk
+    profilers.set(listOf("gc"))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.benchmark;
+
+import com.viaversion.viabackwards.ViaBackwards;
+import com.viaversion.viabackwards.api.ViaBackwardsPlatform;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.logging.Logger;
+
+/**
+ * Minimal platform so mapping files can be loaded from the plugin jar and cached in a temporary folder.
+ */
+record BenchmarkPlatform(File dataFolder) implements ViaBackwardsPlatform {
+
+    private static final Logger LOGGER = Logger.getLogger("ViaBackwards");
+
+    static synchronized void init() {
+        if (ViaBackwards.getPlatform() != null) {
+            return;
+        }
+
+        try {
+            ViaBackwards.init(new BenchmarkPlatform(Files.createTempDirectory("viabackwards").toFile()), null);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Logger getLogger() {
+        return LOGGER;
+    }
+
+    @Override
+    public void disable() {
+    }
+
+    @Override
+    public File getDataFolder() {
+        return dataFolder;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.benchmark;
+
+import com.viaversion.nbt.tag.CompoundTag;
+import com.viaversion.nbt.tag.LongArrayTag;
+import com.viaversion.viaversion.api.minecraft.blockentity.BlockEntity;
+import com.viaversion.viaversion.api.minecraft.chunks.BaseChunk;
+import com.viaversion.viaversion.api.minecraft.chunks.Chunk;
+import com.viaversion.viaversion.api.minecraft.chunks.Chunk1_18;
+import com.viaversion.viaversion.api.minecraft.chunks.ChunkSection;
+import com.viaversion.viaversion.api.minecraft.chunks.ChunkSectionImpl;
+import com.viaversion.viaversion.api.minecraft.chunks.ChunkSectionLight;
+import com.viaversion.viaversion.api.minecraft.chunks.ChunkSectionLightImpl;
+import com.viaversion.viaversion.api.minecraft.chunks.DataPalette;
+import com.viaversion.viaversion.api.minecraft.chunks.DataPaletteImpl;
+import com.viaversion.viaversion.api.minecraft.chunks.PaletteType;
+import com.viaversion.viaversion.api.type.Type;
+import com.viaversion.viaversion.util.CompactArrayUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds overworld-like terrain chunks and encodes them in the format a server would send them in.
+ * The same seed always yields the same bytes, so runs stay comparable between branches.
+ */
+public final class ChunkFixtures {
+
+    public static final int SECTIONS = 16;
+    public static final int BLOCK_BITS = 15;
+    public static final int BIOME_BITS = 6;
+
+    // Rough 1.13+ block state ids, only the palette shape matters here
+    public static final int AIR = 0;
+    public static final int STONE = 1;
+    public static final int GRASS_BLOCK = 9;
+    public static final int DIRT = 10;
+    public static final int BEDROCK = 33;
+    public static final int WATER = 34;
+    public static final int GOLD_ORE = 69;
+    public static final int IRON_ORE = 70;
+    public static final int COAL_ORE = 71;
+    public static final int FLOWER_POT = 5265;
+
+    private static final byte[] FULL_LIGHT = new byte[2048];
+
+    static {
+        Arrays.fill(FULL_LIGHT, (byte) 0xFF);
+    }
+
+    private ChunkFixtures() {
+    }
+
+    /**
+     * Returns a chunk with terrain up to around y=70 and a couple of ores, without light data.
+     *
+     * @param seed     seed for the terrain noise
+     * @param potCount number of flower pots placed on the surface
+     * @return section array where empty sections are null
+     */
+    public static ChunkSection[] terrain(final long seed, final int potCount) {
+        final Random random = new Random(seed);
+        final int[] heights = new int[256];
+        for (int i = 0; i < heights.length; i++) {
+            heights[i] = 62 + random.nextInt(8);
+        }
+
+        final ChunkSection[] sections = new ChunkSection[SECTIONS];
+        for (int sectionY = 0; sectionY < SECTIONS; sectionY++) {
+            final ChunkSection section = new ChunkSectionImpl(false);
+            final DataPalette palette = section.palette(PaletteType.BLOCKS);
+            palette.addId(AIR);
+
+            int nonAir = 0;
+            for (int y = 0; y < 16; y++) {
+                final int worldY = (sectionY << 4) + y;
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        final int height = heights[z << 4 | x];
+                        final int id;
+                        if (worldY == 0) {
+                            id = BEDROCK;
+                        } else if (worldY < height - 4) {
+                            final int roll = random.nextInt(128);
+                            id = roll == 0 ? IRON_ORE : roll == 1 ? COAL_ORE : roll == 2 && worldY < 32 ? GOLD_ORE : STONE;
+                        } else if (worldY < height) {
+                            id = DIRT;
+                        } else if (worldY == height) {
+                            id = GRASS_BLOCK;
+                        } else if (worldY <= 63) {
+                            id = WATER;
+                        } else {
+                            id = AIR;
+                        }
+
+                        palette.setIdAt(x, y, z, id);
+                        if (id != AIR) {
+                            nonAir++;
+                        }
+                    }
+                }
+            }
+
+            if (nonAir != 0) {
+                section.setNonAirBlocksCount(nonAir);
+                sections[sectionY] = section;
+            }
+        }
+
+        for (int i = 0; i < potCount; i++) {
+            final int x = random.nextInt(16);
+            final int z = random.nextInt(16);
+            final int y = heights[z << 4 | x] + 1;
+            final ChunkSection section = sections[y >> 4];
+            if (section != null) {
+                section.palette(PaletteType.BLOCKS).setIdAt(x, y & 0xF, z, FLOWER_POT);
+            }
+        }
+        return sections;
+    }
+
+    /**
+     * Returns a 1.9.3-1.13 style chunk with full block and sky light.
+     */
+    public static Chunk legacyChunk(final long seed, final int potCount, final int biomeCount) {
+        final ChunkSection[] sections = terrain(seed, potCount);
+        int bitmask = 0;
+        for (int i = 0; i < sections.length; i++) {
+            final ChunkSection section = sections[i];
+            if (section == null) {
+                continue;
+            }
+
+            final ChunkSectionLight light = ChunkSectionLightImpl.createWithBlockLight();
+            light.setBlockLight(FULL_LIGHT.clone());
+            light.setSkyLight(FULL_LIGHT.clone());
+            section.setLight(light);
+            bitmask |= 1 << i;
+        }
+        return new BaseChunk(0, 0, true, false, bitmask, sections, new int[biomeCount], new ArrayList<>());
+    }
+
+    /**
+     * Returns a 1.14-1.17 style chunk with heightmaps and no section light.
+     */
+    public static Chunk heightmapChunk(final long seed, final int biomeCount) {
+        final ChunkSection[] sections = terrain(seed, 0);
+        int bitmask = 0;
+        for (int i = 0; i < sections.length; i++) {
+            if (sections[i] != null) {
+                bitmask |= 1 << i;
+            }
+        }
+        return new BaseChunk(0, 0, true, false, bitmask, sections, new int[biomeCount], heightMaps(), new ArrayList<>());
+    }
+
+    /**
+     * Returns a 1.18+ style chunk where every section is present and carries a biome palette.
+     */
+    public static Chunk modernChunk(final long seed) {
+        final ChunkSection[] sections = terrain(seed, 0);
+        for (int i = 0; i < sections.length; i++) {
+            if (sections[i] == null) {
+                final ChunkSection section = new ChunkSectionImpl(false);
+                section.palette(PaletteType.BLOCKS).addId(AIR);
+                sections[i] = section;
+            }
+
+            final DataPalette biomes = new DataPaletteImpl(ChunkSection.BIOME_SIZE);
+            biomes.addId(1);
+            sections[i].addPalette(PaletteType.BIOMES, biomes);
+        }
+        final List<BlockEntity> blockEntities = new ArrayList<>();
+        return new Chunk1_18(0, 0, sections, heightMaps(), blockEntities);
+    }
+
+    private static CompoundTag heightMaps() {
+        // Sea level surface, packed with the 9 bits a 16 section world uses
+        final CompoundTag heightMaps = new CompoundTag();
+        heightMaps.put("MOTION_BLOCKING", new LongArrayTag(CompactArrayUtil.createCompactArrayWithPadding(9, 256, i -> 64)));
+        return heightMaps;
+    }
+
+    public static byte[] encode(final Type<Chunk> type, final Chunk chunk) {
+        final ByteBuf buf = Unpooled.buffer();
+        try {
+            type.write(buf, chunk);
+            final byte[] bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+            return bytes;
+        } finally {
+            buf.release();
+        }
+    }
+}
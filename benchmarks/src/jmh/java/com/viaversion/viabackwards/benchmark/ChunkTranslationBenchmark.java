@@ -0,0 +1,381 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.benchmark;
+
+import com.viaversion.viabackwards.api.rewriters.LegacyBlockItemRewriter;
+import com.viaversion.viabackwards.protocol.v1_10to1_9_3.Protocol1_10To1_9_3;
+import com.viaversion.viabackwards.protocol.v1_11to1_10.Protocol1_11To1_10;
+import com.viaversion.viabackwards.protocol.v1_12to1_11_1.Protocol1_12To1_11_1;
+import com.viaversion.viabackwards.protocol.v1_13to1_12_2.block_entity_handlers.FlowerPotHandler;
+import com.viaversion.viabackwards.protocol.v1_13to1_12_2.rewriter.BlockItemPacketRewriter1_13;
+import com.viaversion.viabackwards.protocol.v1_14to1_13_2.rewriter.BlockItemPacketRewriter1_14;
+import com.viaversion.viabackwards.protocol.v1_15to1_14_4.rewriter.BlockItemPacketRewriter1_15;
+import com.viaversion.viabackwards.protocol.v1_17to1_16_4.rewriter.BlockItemPacketRewriter1_17;
+import com.viaversion.viabackwards.protocol.v1_18to1_17_1.rewriter.BlockItemPacketRewriter1_18;
+import com.viaversion.viaversion.api.minecraft.Environment;
+import com.viaversion.viaversion.api.minecraft.chunks.Chunk;
+import com.viaversion.viaversion.api.minecraft.chunks.ChunkSection;
+import com.viaversion.viaversion.api.minecraft.chunks.DataPalette;
+import com.viaversion.viaversion.api.minecraft.chunks.PaletteType;
+import com.viaversion.viaversion.api.type.Type;
+import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_13;
+import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_14;
+import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_15;
+import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_16;
+import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_16_2;
+import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_17;
+import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_18;
+import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_9_1;
+import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_9_3;
+import com.viaversion.viaversion.libs.fastutil.ints.IntOpenHashSet;
+import com.viaversion.viaversion.libs.fastutil.ints.IntSet;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the clientbound chunk translation of the heaviest backwards hops.
+ * <p>
+ * Every benchmark decodes a chunk in the server's format, runs the chunk rewriting of the matching
+ * {@code BlockItemPacketRewriter} and encodes it in the client's format. The hop work is shared with the
+ * rewriters through their static chunk methods, so only the connection bound parts (storages, block entity
+ * providers) are left out. Hops that only remap palettes through ViaVersion's block rewriter use {@link #remapBlocks}.
+ * The 1.12 to 1.9.4 hops run the {@link LegacyBlockItemRewriter} instances of their protocols, which load their
+ * block mappings from the plugin jar.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChunkTranslationBenchmark {
+
+    // Block state remapping hops in fullChain down to 1.12.2
+    private static final int HOPS = 11;
+    private static final IntSet NON_FULL_BLOCKS = new IntOpenHashSet(new int[]{ChunkFixtures.FLOWER_POT});
+
+    @Param({"0", "4"})
+    public int flowerPots;
+
+    private final int[] blockStateMappings = new int[1 << ChunkFixtures.BLOCK_BITS];
+    private final int[] composedBlockStateMappings = new int[1 << ChunkFixtures.BLOCK_BITS];
+    private final IntUnaryOperator blockStateMapper = id -> blockStateMappings[id];
+    private byte[] chunk1_13;
+    private byte[] chunk1_14;
+    private byte[] chunk1_17;
+    private byte[] chunk1_18;
+    private byte[] chunk1_12;
+    private List<LegacyBlockItemRewriter<?, ?, ?>> legacyRewriters;
+    private Chunk decoded1_13;
+    private ByteBuf out;
+    private int foundFlowerPots;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Identity mappings still cost the same array read as the real ones
+        for (int i = 0; i < blockStateMappings.length; i++) {
+            blockStateMappings[i] = i;
+        }
+        for (int i = 0; i < composedBlockStateMappings.length; i++) {
+            int id = i;
+            for (int hop = 0; hop < HOPS; hop++) {
+                id = blockStateMappings[id];
+            }
+            composedBlockStateMappings[i] = id;
+        }
+
+        chunk1_13 = ChunkFixtures.encode(ChunkType1_13.forEnvironment(Environment.NORMAL), ChunkFixtures.legacyChunk(1, flowerPots, 256));
+        chunk1_14 = ChunkFixtures.encode(ChunkType1_14.TYPE, ChunkFixtures.heightmapChunk(2, 256));
+        chunk1_17 = ChunkFixtures.encode(new ChunkType1_17(ChunkFixtures.SECTIONS), ChunkFixtures.heightmapChunk(3, ChunkFixtures.SECTIONS * ChunkSection.BIOME_SIZE));
+        chunk1_18 = ChunkFixtures.encode(chunkType1_18(), ChunkFixtures.modernChunk(4));
+        chunk1_12 = ChunkFixtures.encode(ChunkType1_9_3.forEnvironment(Environment.NORMAL), ChunkFixtures.legacyChunk(5, 0, 256));
+        decoded1_13 = read(ChunkType1_13.forEnvironment(Environment.NORMAL), chunk1_13);
+
+        BenchmarkPlatform.init();
+        legacyRewriters = List.of(
+            new Protocol1_12To1_11_1().getItemRewriter(),
+            new Protocol1_11To1_10().getItemRewriter(),
+            new Protocol1_10To1_9_3().getItemRewriter()
+        );
+        for (final LegacyBlockItemRewriter<?, ?, ?> rewriter : legacyRewriters) {
+            rewriter.register(); // Registers the block entity handlers
+        }
+        out = Unpooled.buffer(1 << 16);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        out.release();
+    }
+
+    @Benchmark
+    public int levelChunk1_13To1_12_2() {
+        final Chunk chunk = read(ChunkType1_13.forEnvironment(Environment.NORMAL), chunk1_13);
+        rewrite1_13(chunk, blockStateMapper);
+        return write(ChunkType1_9_3.forEnvironment(Environment.NORMAL), chunk) + foundFlowerPots;
+    }
+
+    /**
+     * Section rewriting of the 1.13 hop, which only visits blocks of sections with flower pots in their palette,
+     * compare with {@link #flowerPotFullScan()}. Identity mappings keep the decoded chunk reusable.
+     */
+    @Benchmark
+    public int flowerPotScan() {
+        rewrite1_13(decoded1_13, IntUnaryOperator.identity());
+        return foundFlowerPots;
+    }
+
+    /**
+     * Looks up every block of every section, which the 1.13 hop did before checking palettes first.
+     */
+    @Benchmark
+    public int flowerPotFullScan() {
+        int pots = 0;
+        for (final ChunkSection section : decoded1_13.getSections()) {
+            if (section == null) {
+                continue;
+            }
+
+            final DataPalette palette = section.palette(PaletteType.BLOCKS);
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        if (FlowerPotHandler.isFlowah(palette.idAt(x, y, z))) {
+                            pots++;
+                        }
+                    }
+                }
+            }
+        }
+        return pots;
+    }
+
+    @Benchmark
+    public int levelChunk1_14To1_13_2() {
+        final Chunk chunk = read(ChunkType1_14.TYPE, chunk1_14);
+        BlockItemPacketRewriter1_14.rewriteChunk(chunk, null, true, NON_FULL_BLOCKS, blockStateMapper);
+        return write(ChunkType1_13.forEnvironment(Environment.NORMAL), chunk);
+    }
+
+    @Benchmark
+    public int levelChunk1_17To1_16_4() {
+        final Chunk chunk = read(new ChunkType1_17(ChunkFixtures.SECTIONS), chunk1_17);
+        BlockItemPacketRewriter1_17.cutChunk(chunk, ChunkFixtures.SECTIONS, 0);
+        remapBlocks(chunk);
+        return write(ChunkType1_16_2.TYPE, chunk);
+    }
+
+    @Benchmark
+    public int levelChunkWithLight1_18To1_17_1() {
+        final Chunk chunk = BlockItemPacketRewriter1_18.toChunk1_17(read(chunkType1_18(), chunk1_18), new ArrayList<>());
+        remapBlocks(chunk);
+        return write(new ChunkType1_17(ChunkFixtures.SECTIONS), chunk);
+    }
+
+    @Benchmark
+    public int levelChunkWithLight1_19() {
+        // What every registerLevelChunk1_19 hop does
+        final Chunk chunk = read(chunkType1_18(), chunk1_18);
+        remapBlocks(chunk);
+        return write(chunkType1_18(), chunk);
+    }
+
+    /**
+     * The 1.12 -> 1.11.1, 1.11 -> 1.10 and 1.10 -> 1.9.4 hops, the only ones below 1.13 touching chunk contents.
+     */
+    @Benchmark
+    public int levelChunk1_12To1_9_4() {
+        final Chunk chunk = read(ChunkType1_9_3.forEnvironment(Environment.NORMAL), chunk1_12);
+        translateLegacyChain(chunk);
+        return write(ChunkType1_9_3.forEnvironment(Environment.NORMAL), chunk);
+    }
+
+    /**
+     * Runs a 1.18+ chunk through every hop down to the oldest format. Like in the pipeline, the chunk is only decoded
+     * once and every hop works on the object handed over by the previous one, see {@link #fullChainReencoded()}.
+     */
+    @Benchmark
+    public int fullChain() {
+        final Chunk chunk = read(chunkType1_18(), chunk1_18);
+        final Chunk legacyChunk = translateChain(chunk, true, blockStateMapper);
+        translateLegacyChain(legacyChunk);
+        return write(ChunkType1_9_1.forEnvironment(Environment.NORMAL), legacyChunk);
+    }
+
+    /**
+     * The same chain with each hop decoding and encoding the chunk again, i.e. what would happen without the
+     * object hand-off between protocols.
+     */
+    @Benchmark
+    public int fullChainReencoded() {
+        byte[] bytes = chunk1_18;
+        for (int i = 0; i < 3; i++) {
+            // 1.21.4 -> 1.18, the modern hops only touch palettes
+            final Chunk chunk = read(chunkType1_18(), bytes);
+            remapBlocks(chunk);
+            bytes = encode(chunkType1_18(), chunk);
+        }
+
+        Chunk chunk = BlockItemPacketRewriter1_18.toChunk1_17(read(chunkType1_18(), bytes), new ArrayList<>());
+        remapBlocks(chunk);
+        bytes = encode(new ChunkType1_17(ChunkFixtures.SECTIONS), chunk);
+
+        chunk = read(new ChunkType1_17(ChunkFixtures.SECTIONS), bytes);
+        BlockItemPacketRewriter1_17.cutChunk(chunk, ChunkFixtures.SECTIONS, 0);
+        remapBlocks(chunk);
+        bytes = encode(ChunkType1_16_2.TYPE, chunk);
+
+        chunk = read(ChunkType1_16_2.TYPE, bytes);
+        remapBlocks(chunk);
+        bytes = encode(ChunkType1_16.TYPE, chunk);
+
+        chunk = read(ChunkType1_16.TYPE, bytes);
+        remapBlocks(chunk);
+        bytes = encode(ChunkType1_15.TYPE, chunk);
+
+        chunk = read(ChunkType1_15.TYPE, bytes);
+        chunk.setBiomeData(BlockItemPacketRewriter1_15.toBiomes1_14(chunk.getBiomeData()));
+        remapBlocks(chunk);
+        bytes = encode(ChunkType1_14.TYPE, chunk);
+
+        chunk = read(ChunkType1_14.TYPE, bytes);
+        BlockItemPacketRewriter1_14.rewriteChunk(chunk, null, true, NON_FULL_BLOCKS, blockStateMapper);
+        bytes = encode(ChunkType1_13.forEnvironment(Environment.NORMAL), chunk);
+
+        chunk = read(ChunkType1_13.forEnvironment(Environment.NORMAL), bytes);
+        rewrite1_13(chunk, blockStateMapper);
+        bytes = encode(ChunkType1_9_3.forEnvironment(Environment.NORMAL), chunk);
+
+        for (final LegacyBlockItemRewriter<?, ?, ?> rewriter : legacyRewriters) {
+            chunk = read(ChunkType1_9_3.forEnvironment(Environment.NORMAL), bytes);
+            rewriter.handleChunk(chunk);
+            bytes = encode(ChunkType1_9_3.forEnvironment(Environment.NORMAL), chunk);
+        }
+
+        chunk = read(ChunkType1_9_3.forEnvironment(Environment.NORMAL), bytes);
+        return write(ChunkType1_9_1.forEnvironment(Environment.NORMAL), chunk);
+    }
+
+    /**
+     * The chain with all block state remaps done through a single precomposed table, compare with {@link #fullChain()}.
+     * This is the upper bound of what composing the per hop mappings down to 1.12.2 could save; the legacy hops
+     * below use their own block tables and run unchanged.
+     */
+    @Benchmark
+    public int fullChainComposed() {
+        final Chunk chunk = read(chunkType1_18(), chunk1_18);
+        final Chunk legacyChunk = translateChain(chunk, false, IntUnaryOperator.identity());
+        remapBlocks(legacyChunk, composedBlockStateMappings);
+        translateLegacyChain(legacyChunk);
+        return write(ChunkType1_9_1.forEnvironment(Environment.NORMAL), legacyChunk);
+    }
+
+    /**
+     * Runs the hops of {@link #fullChain()} down to 1.12.2 on an already decoded chunk.
+     *
+     * @param modernChunk      1.18+ chunk
+     * @param remap            whether to remap the palettes of the hops using ViaVersion's block rewriter
+     * @param blockStateMapper mapper passed to the 1.14 and 1.13 hops
+     * @return 1.12.2 chunk
+     */
+    private Chunk translateChain(final Chunk modernChunk, final boolean remap, final IntUnaryOperator blockStateMapper) {
+        for (int i = 0; i < HOPS - 8; i++) {
+            if (remap) remapBlocks(modernChunk);
+        }
+
+        final Chunk chunk = BlockItemPacketRewriter1_18.toChunk1_17(modernChunk, new ArrayList<>());
+        if (remap) remapBlocks(chunk);
+        BlockItemPacketRewriter1_17.cutChunk(chunk, ChunkFixtures.SECTIONS, 0);
+        if (remap) {
+            remapBlocks(chunk); // 1.17
+            remapBlocks(chunk); // 1.16.2
+            remapBlocks(chunk); // 1.16
+        }
+        chunk.setBiomeData(BlockItemPacketRewriter1_15.toBiomes1_14(chunk.getBiomeData()));
+        if (remap) remapBlocks(chunk);
+        BlockItemPacketRewriter1_14.rewriteChunk(chunk, null, true, NON_FULL_BLOCKS, blockStateMapper);
+        rewrite1_13(chunk, blockStateMapper);
+        return chunk;
+    }
+
+    /**
+     * Runs the legacy hops of {@link #fullChain()} on a 1.12.2 chunk, turning it into a 1.9.4 chunk.
+     */
+    private void translateLegacyChain(final Chunk chunk) {
+        for (final LegacyBlockItemRewriter<?, ?, ?> rewriter : legacyRewriters) {
+            rewriter.handleChunk(chunk);
+        }
+    }
+
+    private void rewrite1_13(final Chunk chunk, final IntUnaryOperator blockStateMapper) {
+        foundFlowerPots = 0;
+        BlockItemPacketRewriter1_13.rewriteChunk(chunk, blockStateMapper, (position, block) -> foundFlowerPots++);
+    }
+
+    private static ChunkType1_18 chunkType1_18() {
+        return new ChunkType1_18(ChunkFixtures.SECTIONS, ChunkFixtures.BLOCK_BITS, ChunkFixtures.BIOME_BITS);
+    }
+
+    private Chunk read(final Type<Chunk> type, final byte[] bytes) {
+        return type.read(Unpooled.wrappedBuffer(bytes));
+    }
+
+    private int write(final Type<Chunk> type, final Chunk chunk) {
+        out.clear();
+        type.write(out, chunk);
+        return out.writerIndex();
+    }
+
+    private byte[] encode(final Type<Chunk> type, final Chunk chunk) {
+        write(type, chunk);
+        final byte[] bytes = new byte[out.readableBytes()];
+        out.readBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Palette remapping as done by ViaVersion's block rewriter for the hops without their own chunk handling.
+     */
+    private void remapBlocks(final Chunk chunk) {
+        remapBlocks(chunk, blockStateMappings);
+    }
+
+    private static void remapBlocks(final Chunk chunk, final int[] mappings) {
+        for (final ChunkSection section : chunk.getSections()) {
+            if (section == null) {
+                continue;
+            }
+
+            final DataPalette palette = section.palette(PaletteType.BLOCKS);
+            for (int i = 0; i < palette.size(); i++) {
+                palette.setIdByIndex(i, mappings[palette.idByIndex(i)]);
+            }
+        }
+    }
+}
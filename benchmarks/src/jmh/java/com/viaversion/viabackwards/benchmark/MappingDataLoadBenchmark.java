@@ -0,0 +1,57 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.benchmark;
+
+import com.viaversion.viabackwards.api.data.BackwardsMappingData;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures loading the mapping data of single hops, which is what every backwards protocol pays on startup,
+ * or with lazy-load-mappings only when a client first needs it. Sum the hops of a client version's pipeline
+ * to get the delay its first connection would see without the asynchronous load started from init.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MappingDataLoadBenchmark {
+
+    @Param({"1.21.4:1.21.2", "1.20.5:1.20.3", "1.13:1.12"})
+    public String hop;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkPlatform.init();
+    }
+
+    @Benchmark
+    public BackwardsMappingData loadMappingData() {
+        final String[] versions = hop.split(":");
+        final BackwardsMappingData mappingData = new BackwardsMappingData(versions[0], versions[1]);
+        mappingData.load();
+        return mappingData;
+    }
+}
@@ -19,6 +19,16 @@ dependencies {
     compileOnlyApi(libs.netty)
     compileOnlyApi(libs.guava)
     compileOnlyApi(libs.checkerQual)
+
+    testImplementation(libs.viaver)
+    testImplementation(libs.netty)
+    testImplementation(libs.guava)
+    testImplementation(libs.junit)
+    testRuntimeOnly(libs.junitLauncher)
+}
+
+tasks.test {
+    useJUnitPlatform()
 }
 
 java {
@@ -39,6 +39,7 @@ public class ViaBackwardsConfig extends Config implements com.viaversion.viaback
     private boolean mapDarknessEffect;
     private boolean mapCustomModelData;
     private boolean suppressEmulationWarnings;
+    private boolean lazyLoadMappings;
 
     public ViaBackwardsConfig(File configFile, Logger logger) {
         super(configFile, logger);
@@ -62,6 +63,7 @@ public class ViaBackwardsConfig extends Config implements com.viaversion.viaback
         mapDarknessEffect = getBoolean("map-darkness-effect", true);
         mapCustomModelData = getBoolean("map-custom-model-data", true);
         suppressEmulationWarnings = getBoolean("suppress-emulation-warnings", false);
+        lazyLoadMappings = getBoolean("lazy-load-mappings", false);
     }
 
     @Override
@@ -119,6 +121,11 @@ public class ViaBackwardsConfig extends Config implements com.viaversion.viaback
         return suppressEmulationWarnings;
     }
 
+    @Override
+    public boolean lazyLoadMappings() {
+        return lazyLoadMappings;
+    }
+
     @Override
     public URL getDefaultConfigURL() {
         return getClass().getClassLoader().getResource("assets/viabackwards/config.yml");
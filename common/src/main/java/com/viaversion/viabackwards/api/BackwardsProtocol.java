@@ -17,18 +17,30 @@
  */
 package com.viaversion.viabackwards.api;
 
+import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.api.data.BackwardsMappingData;
 import com.viaversion.viabackwards.api.rewriters.TranslatableRewriter;
 import com.viaversion.viaversion.api.Via;
+import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.protocol.AbstractProtocol;
 import com.viaversion.viaversion.api.protocol.Protocol;
 import com.viaversion.viaversion.api.protocol.packet.ClientboundPacketType;
+import com.viaversion.viaversion.api.protocol.packet.Direction;
+import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.protocol.packet.ServerboundPacketType;
+import com.viaversion.viaversion.api.protocol.packet.State;
+import com.viaversion.viaversion.exception.CancelException;
+import com.viaversion.viaversion.exception.InformativeException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 public abstract class BackwardsProtocol<CU extends ClientboundPacketType, CM extends ClientboundPacketType, SM extends ServerboundPacketType, SU extends ServerboundPacketType>
     extends AbstractProtocol<CU, CM, SM, SU> {
 
+    private volatile boolean lazyMappingDataPending;
+    private CompletableFuture<Void> lazyMappingDataFuture;
+
     protected BackwardsProtocol() {
     }
 
@@ -50,8 +62,51 @@ public abstract class BackwardsProtocol<CU extends ClientboundPacketType, CM ext
 
         final BackwardsMappingData mappingData = getMappingData();
         if (mappingData != null && mappingData.getViaVersionProtocolClass() != null) {
-            executeAsyncAfterLoaded(mappingData.getViaVersionProtocolClass(), this::loadMappingData);
+            if (ViaBackwards.getConfig().lazyLoadMappings()) {
+                // Loaded when the first connection using this protocol is initialized
+                lazyMappingDataPending = true;
+            } else {
+                executeAsyncAfterLoaded(mappingData.getViaVersionProtocolClass(), this::loadMappingData);
+            }
+        }
+    }
+
+    @Override
+    public void init(final UserConnection connection) {
+        if (lazyMappingDataPending) {
+            // Start loading as soon as a connection needs this protocol, so its first packets don't have to wait for the full load
+            lazyMappingDataFuture();
+        }
+    }
+
+    @Override
+    public void transform(final Direction direction, final State state, final PacketWrapper packetWrapper) throws InformativeException, CancelException {
+        if (lazyMappingDataPending) {
+            try {
+                lazyMappingDataFuture().join();
+            } catch (final CompletionException e) {
+                throw new RuntimeException("Failed to load mappings of " + getClass().getSimpleName(), e.getCause());
+            }
+        }
+        super.transform(direction, state, packetWrapper);
+    }
+
+    private synchronized CompletableFuture<Void> lazyMappingDataFuture() {
+        if (lazyMappingDataFuture == null) {
+            lazyMappingDataFuture = CompletableFuture.runAsync(this::loadMappingDataLazily, task -> Via.getPlatform().runAsync(task));
         }
+        return lazyMappingDataFuture;
+    }
+
+    private void loadMappingDataLazily() {
+        try {
+            Via.getManager().getProtocolManager().completeMappingDataLoading(getMappingData().getViaVersionProtocolClass());
+        } catch (final Exception e) {
+            throw new RuntimeException("Failed to wait for ViaVersion mappings of " + getClass().getSimpleName(), e);
+        }
+
+        loadMappingData();
+        lazyMappingDataPending = false;
     }
 
     @Override
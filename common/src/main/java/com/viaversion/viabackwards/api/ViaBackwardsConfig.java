@@ -98,4 +98,11 @@ public interface ViaBackwardsConfig extends Config {
      * @return true if enabled
      */
     boolean suppressEmulationWarnings();
+
+    /**
+     * Only loads a protocol's mappings once the first connection using it sends or receives a packet, instead of on startup.
+     *
+     * @return true if enabled
+     */
+    boolean lazyLoadMappings();
 }
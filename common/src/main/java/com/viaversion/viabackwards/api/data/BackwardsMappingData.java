@@ -35,6 +35,7 @@ import com.viaversion.nbt.tag.NumberTag;
 import com.viaversion.nbt.tag.StringTag;
 import com.viaversion.nbt.tag.Tag;
 import com.viaversion.viaversion.util.Key;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Level;
@@ -46,6 +47,7 @@ public class BackwardsMappingData extends MappingDataBase {
     private final Class<? extends Protocol<?, ?, ?, ?>> vvProtocolClass;
     protected Int2ObjectMap<MappedItem> backwardsItemMappings;
     private Map<String, String> backwardsSoundMappings;
+    private Map<String, String> soundLookup;
     private Map<String, String> entityNames;
     private Int2ObjectMap<String> enchantmentNames;
 
@@ -84,6 +86,14 @@ public class BackwardsMappingData extends MappingDataBase {
         this.entityNames = loadNameByStringMappings(data, "entitynames");
         this.enchantmentNames = loadNameByIdMappings(data, "enchantmentnames");
         this.backwardsSoundMappings = loadNameByStringMappings(data, "soundnames");
+        if (backwardsSoundMappings != null) {
+            // Also accept the namespaced keys directly, so lookups don't have to strip the namespace first
+            soundLookup = new HashMap<>(backwardsSoundMappings.size() * 2);
+            for (final Map.Entry<String, String> entry : backwardsSoundMappings.entrySet()) {
+                soundLookup.put(entry.getKey(), entry.getValue());
+                soundLookup.put(Key.namespaced(entry.getKey()), entry.getValue());
+            }
+        }
     }
 
     private @Nullable Map<String, String> loadNameByStringMappings(final CompoundTag data, final String key) {
@@ -164,7 +174,7 @@ public class BackwardsMappingData extends MappingDataBase {
         if (backwardsSoundMappings == null) {
             return null;
         }
-        return backwardsSoundMappings.get(Key.stripMinecraftNamespace(id));
+        return soundLookup.get(id);
     }
 
     public @Nullable String mappedEntityName(final String entityName) {
@@ -187,8 +197,13 @@ public class BackwardsMappingData extends MappingDataBase {
         return backwardsItemMappings;
     }
 
+    /**
+     * Returns an unmodifiable view of the sound name mappings, as sound lookups go through a separate table built on load.
+     *
+     * @return unmodifiable sound name mappings, or null if there are none
+     */
     public @Nullable Map<String, String> getBackwardsSoundMappings() {
-        return backwardsSoundMappings;
+        return backwardsSoundMappings != null ? Collections.unmodifiableMap(backwardsSoundMappings) : null;
     }
 
     public @Nullable Class<? extends Protocol<?, ?, ?, ?>> getViaVersionProtocolClass() {
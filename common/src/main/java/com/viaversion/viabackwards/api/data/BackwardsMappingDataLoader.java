@@ -18,21 +18,34 @@
 package com.viaversion.viabackwards.api.data;
 
 import com.viaversion.viabackwards.ViaBackwards;
+import com.viaversion.viabackwards.utils.VersionInfo;
 import com.viaversion.viaversion.api.data.MappingDataLoader;
 import com.viaversion.nbt.tag.CompoundTag;
 import com.viaversion.nbt.tag.Tag;
+import com.viaversion.viaversion.libs.gson.JsonElement;
+import com.viaversion.viaversion.libs.gson.JsonObject;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class BackwardsMappingDataLoader extends MappingDataLoader {
 
     public static final BackwardsMappingDataLoader INSTANCE = new BackwardsMappingDataLoader(BackwardsMappingDataLoader.class, "assets/viabackwards/data/");
 
+    private final String dataPath;
+
     public BackwardsMappingDataLoader(final Class<?> dataLoaderClass, final String dataPath) {
         super(dataLoaderClass, dataPath);
+        this.dataPath = dataPath;
     }
 
     /**
@@ -59,6 +72,85 @@ public class BackwardsMappingDataLoader extends MappingDataLoader {
         }
     }
 
+    /**
+     * Returns nested string mappings (section -> key -> value) from a json file in the plugin folder or packed assets.
+     * After the first parse, a binary copy is kept in the plugin folder's cache directory and used
+     * as long as neither the plugin version nor the plugin folder file change.
+     *
+     * @param name name of the json file
+     * @return nested string mappings
+     */
+    public Map<String, Map<String, String>> loadNestedStringMappings(final String name) {
+        final File cacheFile = new File(getDataFolder(), "cache/" + name.substring(0, name.lastIndexOf('.')) + ".bin");
+        long checksum = -1;
+        try {
+            checksum = checksum(name);
+            if (cacheFile.isFile()) {
+                final Map<String, Map<String, String>> mappings = CompiledStringMappings.read(cacheFile, checksum);
+                if (mappings != null) {
+                    return mappings;
+                }
+            }
+        } catch (final IOException | RuntimeException e) {
+            getLogger().log(Level.WARNING, "Failed to read cached " + name, e);
+        }
+
+        final JsonObject object = loadFromDataDir(name);
+        final Map<String, Map<String, String>> mappings = new HashMap<>(object.size());
+        final Map<String, String> strings = new HashMap<>(); // Share equal keys and values between sections
+        for (final Map.Entry<String, JsonElement> entry : object.entrySet()) {
+            final Map<String, String> sectionMappings = new HashMap<>();
+            mappings.put(entry.getKey(), sectionMappings);
+            for (final Map.Entry<String, JsonElement> mappingEntry : entry.getValue().getAsJsonObject().entrySet()) {
+                final String key = strings.computeIfAbsent(mappingEntry.getKey(), Function.identity());
+                final String value = strings.computeIfAbsent(mappingEntry.getValue().getAsString(), Function.identity());
+                sectionMappings.put(key, value);
+            }
+        }
+
+        if (checksum != -1) {
+            try {
+                CompiledStringMappings.write(cacheFile, checksum, mappings);
+            } catch (final IOException e) {
+                getLogger().log(Level.WARNING, "Failed to cache " + name, e);
+            }
+        }
+        return mappings;
+    }
+
+    private long checksum(final String name) throws IOException {
+        // The packed file can only change together with the jar, so its version is enough to identify it
+        final CRC32 packed = new CRC32();
+        packed.update((packedDataVersion() + ":" + dataPath + name).getBytes(StandardCharsets.UTF_8));
+
+        final CRC32 override = new CRC32();
+        final File file = new File(getDataFolder(), name);
+        if (file.exists()) {
+            try (final InputStream in = new FileInputStream(file)) {
+                update(override, in);
+            }
+        }
+        return packed.getValue() << 32 | override.getValue();
+    }
+
+    /**
+     * Returns the version identifying the packed data files, used to invalidate cached mappings when they change.
+     * Loaders for data packed in other jars should return the version of that jar.
+     *
+     * @return version of the packed data files
+     */
+    protected String packedDataVersion() {
+        return VersionInfo.getImplementationVersion();
+    }
+
+    private static void update(final CRC32 crc, final InputStream in) throws IOException {
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            crc.update(buffer, 0, read);
+        }
+    }
+
     private CompoundTag mergeTags(final CompoundTag original, final CompoundTag extra) {
         for (final Map.Entry<String, Tag> entry : extra.entrySet()) {
             if (entry.getValue() instanceof CompoundTag) {
@@ -0,0 +1,158 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.api.data;
+
+import com.viaversion.viaversion.libs.fastutil.objects.Object2IntMap;
+import com.viaversion.viaversion.libs.fastutil.objects.Object2IntOpenHashMap;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Binary form of nested string mappings (section -> key -> value), written once after parsing the json file and read back on later starts.
+ * <p>
+ * Layout: format version, checksum of the packed data version and plugin folder file, a string table of all distinct strings,
+ * then per section its name index followed by key and value index pairs.
+ */
+final class CompiledStringMappings {
+
+    private static final int FORMAT_VERSION = 2;
+
+    private CompiledStringMappings() {
+    }
+
+    /**
+     * Reads compiled mappings from the given file.
+     *
+     * @param file     compiled mappings file
+     * @param checksum checksum of the current source files
+     * @return mappings, or null if the file was written for different source files
+     * @throws IOException if reading the file fails
+     */
+    static @Nullable Map<String, Map<String, String>> read(final File file, final long checksum) throws IOException {
+        // Read into memory instead of mapping the file, a mapped file can't be replaced on Windows until the mapping is collected
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        if (buffer.getInt() != FORMAT_VERSION || buffer.getLong() != checksum) {
+            return null;
+        }
+
+        final String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(buffer);
+        }
+
+        final int sectionCount = buffer.getInt();
+        final Map<String, Map<String, String>> mappings = new HashMap<>(sectionCount);
+        for (int i = 0; i < sectionCount; i++) {
+            final String section = strings[buffer.getInt()];
+            final int entries = buffer.getInt();
+            final Map<String, String> sectionMappings = new HashMap<>(entries);
+            for (int j = 0; j < entries; j++) {
+                sectionMappings.put(strings[buffer.getInt()], strings[buffer.getInt()]);
+            }
+            mappings.put(section, sectionMappings);
+        }
+        return mappings;
+    }
+
+    static void write(final File file, final long checksum, final Map<String, Map<String, String>> mappings) throws IOException {
+        final Object2IntMap<String> stringIds = new Object2IntOpenHashMap<>();
+        stringIds.defaultReturnValue(-1);
+        final List<String> strings = new ArrayList<>();
+        for (final Map.Entry<String, Map<String, String>> section : mappings.entrySet()) {
+            addString(section.getKey(), stringIds, strings);
+            for (final Map.Entry<String, String> entry : section.getValue().entrySet()) {
+                addString(entry.getKey(), stringIds, strings);
+                addString(entry.getValue(), stringIds, strings);
+            }
+        }
+
+        final File parent = file.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Could not create " + parent);
+        }
+
+        // Write to a temporary file first, so a crash or concurrent start never sees a partially written file
+        final Path target = file.toPath();
+        final Path tempFile = Files.createTempFile(target.toAbsolutePath().getParent(), file.getName(), ".tmp");
+        try {
+            writeMappings(tempFile, checksum, mappings, stringIds, strings);
+            try {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static void writeMappings(
+        final Path path,
+        final long checksum,
+        final Map<String, Map<String, String>> mappings,
+        final Object2IntMap<String> stringIds,
+        final List<String> strings
+    ) throws IOException {
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(checksum);
+            out.writeInt(strings.size());
+            for (final String string : strings) {
+                final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(mappings.size());
+            for (final Map.Entry<String, Map<String, String>> section : mappings.entrySet()) {
+                out.writeInt(stringIds.getInt(section.getKey()));
+                out.writeInt(section.getValue().size());
+                for (final Map.Entry<String, String> entry : section.getValue().entrySet()) {
+                    out.writeInt(stringIds.getInt(entry.getKey()));
+                    out.writeInt(stringIds.getInt(entry.getValue()));
+                }
+            }
+        }
+    }
+
+    private static void addString(final String string, final Object2IntMap<String> stringIds, final List<String> strings) {
+        if (stringIds.getInt(string) == -1) {
+            stringIds.put(string, strings.size());
+            strings.add(string);
+        }
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
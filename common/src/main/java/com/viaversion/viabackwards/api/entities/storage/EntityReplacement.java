@@ -21,17 +21,20 @@ package com.viaversion.viabackwards.api.entities.storage;
 import com.viaversion.viabackwards.api.BackwardsProtocol;
 import com.viaversion.viaversion.api.minecraft.entities.EntityType;
 import com.viaversion.nbt.tag.StringTag;
+import com.viaversion.viaversion.libs.gson.JsonElement;
 import com.viaversion.viaversion.util.ComponentUtil;
 import java.util.Locale;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class EntityReplacement {
+    private static final Object NO_NAME = new Object();
     private final BackwardsProtocol<?, ?, ?, ?> protocol;
     private final int id;
     private final int replacementId;
     private final String key;
     private ComponentType componentType = ComponentType.NONE;
     private EntityDataCreator defaultData;
+    private volatile Object name;
 
     public EntityReplacement(BackwardsProtocol<?, ?, ?, ?> protocol, EntityType type, int replacementId) {
         this(protocol, type.name(), type.getId(), replacementId);
@@ -80,9 +83,25 @@ public class EntityReplacement {
             return null;
         }
 
+        Object name = this.name;
+        if (name == null) {
+            // Mapping data may be loaded lazily, so resolve on first use rather than on registration
+            this.name = name = resolveEntityName();
+        }
+
+        // Entity data values are modified by later protocols, so only hand out copies
+        if (name instanceof JsonElement element) {
+            return element.deepCopy();
+        } else if (name instanceof StringTag tag) {
+            return tag.copy();
+        }
+        return name != NO_NAME ? name : null;
+    }
+
+    private Object resolveEntityName() {
         final String name = protocol.getMappingData().mappedEntityName(key);
         if (name == null) {
-            return null;
+            return NO_NAME;
         }
 
         if (componentType == ComponentType.JSON) {
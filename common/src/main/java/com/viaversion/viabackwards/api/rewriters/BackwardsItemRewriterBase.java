@@ -30,12 +30,16 @@ import com.viaversion.nbt.tag.Tag;
 import com.viaversion.viaversion.rewriter.ItemRewriter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 public abstract class BackwardsItemRewriterBase<C extends ClientboundPacketType, S extends ServerboundPacketType,
     T extends BackwardsProtocol<C, ?, ?, S>> extends ItemRewriter<C, S, T> {
 
     protected final boolean jsonNameFormat;
+    private final String nbtTagName = "VB|" + protocol.getClass().getSimpleName();
+    private final Map<String, String> backupTagNames = new ConcurrentHashMap<>();
 
     protected BackwardsItemRewriterBase(T protocol, Type<Item> itemType, Type<Item[]> itemArrayType, Type<Item> mappedItemType, Type<Item[]> mappedItemArrayType, boolean jsonFormat) {
         super(protocol, itemType, itemArrayType, mappedItemType, mappedItemArrayType);
@@ -108,6 +112,18 @@ public abstract class BackwardsItemRewriterBase<C extends ClientboundPacketType,
 
     @Override
     public String nbtTagName() {
-        return "VB|" + protocol.getClass().getSimpleName();
+        return nbtTagName;
+    }
+
+    /**
+     * Returns the backup tag name for the given key. Names are created once per key and reused afterwards,
+     * so subclasses can call this with constant keys on every item without allocating.
+     *
+     * @param nbt key of the backed up tag
+     * @return backup tag name
+     */
+    @Override
+    public String nbtTagName(String nbt) {
+        return backupTagNames.computeIfAbsent(nbt, key -> nbtTagName + "|" + key);
     }
 }
@@ -40,6 +40,8 @@ import com.viaversion.viaversion.api.type.Type;
 import com.viaversion.viaversion.rewriter.StructuredItemRewriter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -47,6 +49,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public class BackwardsStructuredItemRewriter<C extends ClientboundPacketType, S extends ServerboundPacketType,
     T extends BackwardsProtocol<C, ?, ?, S>> extends StructuredItemRewriter<C, S, T> {
 
+    private final String nbtTagName = "VB|" + protocol.getClass().getSimpleName();
+    private final Map<String, String> backupTagNames = new ConcurrentHashMap<>();
+
     public BackwardsStructuredItemRewriter(
         T protocol,
         Type<Item> itemType, Type<Item[]> itemArrayType, Type<Item> mappedItemType, Type<Item[]> mappedItemArrayType,
@@ -234,6 +239,18 @@ public class BackwardsStructuredItemRewriter<C extends ClientboundPacketType, S
 
     @Override
     public String nbtTagName() {
-        return "VB|" + protocol.getClass().getSimpleName();
+        return nbtTagName;
+    }
+
+    /**
+     * Returns the backup tag name for the given key. Names are created once per key and reused afterwards,
+     * so subclasses can call this with constant keys on every item without allocating.
+     *
+     * @param nbt key of the backed up tag
+     * @return backup tag name
+     */
+    @Override
+    public String nbtTagName(final String nbt) {
+        return backupTagNames.computeIfAbsent(nbt, key -> nbtTagName + "|" + key);
     }
 }
@@ -29,6 +29,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Rewriter to handle the addition of new enchantments.
@@ -36,9 +38,13 @@ import java.util.Map;
 public class EnchantmentRewriter {
 
     public static final String ENCHANTMENT_LEVEL_TRANSLATION = "enchantment.level.%s";
+    private static final int MAX_CACHED_LEVEL = 10;
 
     protected final Map<String, String> enchantmentMappings = new HashMap<>();
     protected final BackwardsItemRewriter<?, ?, ?> itemRewriter;
+    private final Map<String, String[]> loreCache = new ConcurrentHashMap<>(); // Enchantment id -> lore by level - 1
+    private final LongAdder loreCacheHits = new LongAdder();
+    private final LongAdder loreCacheMisses = new LongAdder();
     private final boolean jsonFormat;
 
     public EnchantmentRewriter(BackwardsItemRewriter<?, ?, ?> itemRewriter, boolean jsonFormat) {
@@ -52,6 +58,7 @@ public class EnchantmentRewriter {
 
     public void registerEnchantment(String key, String replacementLore) {
         enchantmentMappings.put(Key.stripMinecraftNamespace(key), replacementLore);
+        loreCache.clear();
     }
 
     public void handleToClient(Item item) {
@@ -105,14 +112,7 @@ public class EnchantmentRewriter {
 
                 NumberTag levelTag = enchantmentEntry.getNumberTag("lvl");
                 int level = levelTag != null ? levelTag.asInt() : 1;
-                String loreValue;
-                if (jsonFormat) {
-                    loreValue = ChatUtil.legacyToJsonString(remappedName, ENCHANTMENT_LEVEL_TRANSLATION.formatted(level), true);
-                } else {
-                    loreValue = remappedName + " " + getRomanNumber(level);
-                }
-
-                loreToAdd.add(new StringTag(loreValue));
+                loreToAdd.add(new StringTag(loreValue(enchantmentId, remappedName, level)));
             }
         }
 
@@ -143,6 +143,39 @@ public class EnchantmentRewriter {
         }
     }
 
+    private String loreValue(String enchantmentId, String remappedName, int level) {
+        // Lore tags are modified by later protocols, so only the rendered values are shared
+        if (level < 1 || level > MAX_CACHED_LEVEL) {
+            loreCacheMisses.increment();
+            return renderLore(remappedName, level);
+        }
+
+        String[] values = loreCache.computeIfAbsent(enchantmentId, id -> new String[MAX_CACHED_LEVEL]);
+        String value = values[level - 1];
+        if (value == null) {
+            loreCacheMisses.increment();
+            values[level - 1] = value = renderLore(remappedName, level);
+        } else {
+            loreCacheHits.increment();
+        }
+        return value;
+    }
+
+    private String renderLore(String remappedName, int level) {
+        if (jsonFormat) {
+            return ChatUtil.legacyToJsonString(remappedName, ENCHANTMENT_LEVEL_TRANSLATION.formatted(level), true);
+        }
+        return remappedName + " " + getRomanNumber(level);
+    }
+
+    public long loreCacheHits() {
+        return loreCacheHits.sum();
+    }
+
+    public long loreCacheMisses() {
+        return loreCacheMisses.sum();
+    }
+
     public void rewriteEnchantmentsToServer(CompoundTag tag, boolean storedEnchant) {
         // Just restore the original tag ig present (lore is always restored in the item rewriter)
         String key = storedEnchant ? "StoredEnchantments" : "Enchantments";
@@ -38,6 +38,8 @@ import com.viaversion.viaversion.api.type.Type;
 import com.viaversion.viaversion.api.type.Types;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectMap;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectOpenHashMap;
+import com.viaversion.viaversion.libs.fastutil.ints.IntOpenHashSet;
+import com.viaversion.viaversion.libs.fastutil.ints.IntSet;
 import com.viaversion.viaversion.libs.gson.JsonElement;
 import com.viaversion.viaversion.libs.gson.JsonObject;
 import com.viaversion.viaversion.libs.gson.JsonPrimitive;
@@ -49,7 +51,6 @@ import com.viaversion.nbt.tag.ShortTag;
 import com.viaversion.nbt.tag.StringTag;
 import com.viaversion.nbt.tag.Tag;
 import com.viaversion.viaversion.util.ComponentUtil;
-import java.util.HashMap;
 import java.util.Map;
 import com.viaversion.viaversion.util.IdAndData;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -59,6 +60,7 @@ public abstract class LegacyBlockItemRewriter<C extends ClientboundPacketType, S
 
     protected final Int2ObjectMap<MappedLegacyBlockItem> itemReplacements = new Int2ObjectOpenHashMap<>(8); // Raw id -> mapped data
     protected final Int2ObjectMap<MappedLegacyBlockItem> blockReplacements = new Int2ObjectOpenHashMap<>(8); // Raw id -> mapped data
+    private volatile @Nullable BlockTable blockTable;
 
     protected LegacyBlockItemRewriter(T protocol, String name, Type<Item> itemType, Type<Item[]> itemArrayType, Type<Item> mappedItemType, Type<Item[]> mappedItemArrayType) {
         super(protocol, itemType, itemArrayType, mappedItemType, mappedItemArrayType, false);
@@ -253,18 +255,14 @@ public abstract class LegacyBlockItemRewriter<C extends ClientboundPacketType, S
     }
 
     public int handleBlockId(final int rawId) {
-        final int id = IdAndData.getId(rawId);
-        final int data = IdAndData.getData(rawId);
-
-        final IdAndData mappedBlock = handleBlock(id, data);
-        if (mappedBlock == null) return rawId;
-
-        return IdAndData.toRawData(mappedBlock.getId(), mappedBlock.getData());
+        return blockTable().map(rawId);
     }
 
     public void handleChunk(Chunk chunk) {
+        BlockTable table = blockTable();
+
         // Map Block Entities
-        Map<Pos, CompoundTag> tags = new HashMap<>();
+        IntSet tags = new IntOpenHashSet(chunk.getBlockEntities().size());
         for (CompoundTag tag : chunk.getBlockEntities()) {
             NumberTag xTag;
             NumberTag yTag;
@@ -275,21 +273,21 @@ public abstract class LegacyBlockItemRewriter<C extends ClientboundPacketType, S
                 continue;
             }
 
-            Pos pos = new Pos(xTag.asInt() & 0xF, yTag.asInt(), zTag.asInt() & 0xF);
-            tags.put(pos, tag);
-
             // Handle given Block Entities
-            if (pos.y() < 0 || pos.y() > 255) continue; // 1.17
+            int y = yTag.asInt();
+            if (y < 0 || y > 255) continue; // 1.17
 
-            ChunkSection section = chunk.getSections()[pos.y() >> 4];
+            int x = xTag.asInt() & 0xF;
+            int z = zTag.asInt() & 0xF;
+            tags.add(packPosition(x, y, z));
+
+            ChunkSection section = chunk.getSections()[y >> 4];
             if (section == null) continue;
 
-            int block = section.palette(PaletteType.BLOCKS).idAt(pos.x(), pos.y() & 0xF, pos.z());
+            int block = section.palette(PaletteType.BLOCKS).idAt(x, y & 0xF, z);
+            if (!table.hasBlockEntityHandler(block)) continue;
 
-            MappedLegacyBlockItem settings = getMappedBlock(block);
-            if (settings != null && settings.hasBlockEntityHandler()) {
-                settings.getBlockEntityHandler().handleCompoundTag(block, tag);
-            }
+            getMappedBlock(block).getBlockEntityHandler().handleCompoundTag(block, tag);
         }
 
         for (int i = 0; i < chunk.getSections().length; i++) {
@@ -299,53 +297,48 @@ public abstract class LegacyBlockItemRewriter<C extends ClientboundPacketType, S
             }
 
             boolean hasBlockEntityHandler = false;
+            boolean[] handlerIndexes = null;
 
             // Map blocks
             DataPalette palette = section.palette(PaletteType.BLOCKS);
             for (int j = 0; j < palette.size(); j++) {
                 int block = palette.idByIndex(j);
-                int btype = block >> 4;
-                int meta = block & 0xF;
-
-                IdAndData b = handleBlock(btype, meta);
-                if (b != null) {
-                    palette.setIdByIndex(j, IdAndData.toRawData(b.getId(), b.getData()));
+                int mappedBlock = table.map(block);
+                if (mappedBlock != block) {
+                    palette.setIdByIndex(j, mappedBlock);
                 }
 
-                // We already know that is has a handler
-                if (hasBlockEntityHandler) continue;
-
-                MappedLegacyBlockItem settings = getMappedBlock(block);
-                if (settings != null && settings.hasBlockEntityHandler()) {
-                    hasBlockEntityHandler = true;
+                hasBlockEntityHandler |= table.hasBlockEntityHandler(block);
+                if (table.hasBlockEntityHandler(mappedBlock)) {
+                    if (handlerIndexes == null) {
+                        handlerIndexes = new boolean[palette.size()];
+                    }
+                    handlerIndexes[j] = true;
                 }
             }
 
-            if (!hasBlockEntityHandler) continue;
+            if (!hasBlockEntityHandler || handlerIndexes == null) continue;
 
             // We need to handle a Block Entity :(
-            for (int x = 0; x < 16; x++) {
-                for (int y = 0; y < 16; y++) {
-                    for (int z = 0; z < 16; z++) {
-                        int block = palette.idAt(x, y, z);
-
-                        MappedLegacyBlockItem settings = getMappedBlock(block);
-                        if (settings == null || !settings.hasBlockEntityHandler()) continue;
+            for (int index = 0; index < ChunkSection.SIZE; index++) {
+                int paletteIndex = palette.paletteIndexAt(index);
+                if (!handlerIndexes[paletteIndex]) continue;
 
-                        Pos pos = new Pos(x, (y + (i << 4)), z);
+                int x = index & 0xF;
+                int y = (index >> 8) + (i << 4);
+                int z = (index >> 4) & 0xF;
 
-                        // Already handled above
-                        if (tags.containsKey(pos)) continue;
+                // Already handled above
+                if (tags.contains(packPosition(x, y, z))) continue;
 
-                        CompoundTag tag = new CompoundTag();
-                        tag.putInt("x", x + (chunk.getX() << 4));
-                        tag.putInt("y", y + (i << 4));
-                        tag.putInt("z", z + (chunk.getZ() << 4));
+                CompoundTag tag = new CompoundTag();
+                tag.putInt("x", x + (chunk.getX() << 4));
+                tag.putInt("y", y);
+                tag.putInt("z", z + (chunk.getZ() << 4));
 
-                        settings.getBlockEntityHandler().handleCompoundTag(block, tag);
-                        chunk.getBlockEntities().add(tag);
-                    }
-                }
+                int block = palette.idByIndex(paletteIndex);
+                getMappedBlock(block).getBlockEntityHandler().handleCompoundTag(block, tag);
+                chunk.getBlockEntities().add(tag);
             }
         }
     }
@@ -375,6 +368,52 @@ public abstract class LegacyBlockItemRewriter<C extends ClientboundPacketType, S
         return getMappedBlock(id, data);
     }
 
+    /**
+     * Returns the flattened block table, compiling it from {@link #blockReplacements} on first use.
+     * Block replacements and block entity handlers therefore have to be registered before the first chunk is handled.
+     *
+     * @return flattened block table
+     */
+    private BlockTable blockTable() {
+        BlockTable table = blockTable;
+        if (table == null) {
+            synchronized (this) {
+                table = blockTable;
+                if (table == null) {
+                    blockTable = table = compileBlockTable();
+                }
+            }
+        }
+        return table;
+    }
+
+    private BlockTable compileBlockTable() {
+        int maxId = -1;
+        for (int key : blockReplacements.keySet()) {
+            maxId = Math.max(maxId, key >>> 16);
+        }
+
+        int[] mappedIds = new int[(maxId + 1) << 4];
+        long[] blockEntityHandlers = new long[(mappedIds.length + 63) >> 6];
+        for (int rawId = 0; rawId < mappedIds.length; rawId++) {
+            int id = IdAndData.getId(rawId);
+            int data = IdAndData.getData(rawId);
+            MappedLegacyBlockItem settings = getMappedBlock(id, data);
+            if (settings == null) {
+                mappedIds[rawId] = rawId;
+                continue;
+            }
+
+            IdAndData block = settings.getBlock();
+            // For some blocks, the data can still be useful (:
+            mappedIds[rawId] = IdAndData.toRawData(block.getId(), block.getData() != -1 ? block.getData() : data);
+            if (settings.hasBlockEntityHandler()) {
+                blockEntityHandlers[rawId >> 6] |= 1L << rawId;
+            }
+        }
+        return new BlockTable(mappedIds, blockEntityHandlers);
+    }
+
     protected JsonObject readMappingsFile(final String name) {
         return BackwardsMappingDataLoader.INSTANCE.loadFromDataDir(name);
     }
@@ -384,10 +423,24 @@ public abstract class LegacyBlockItemRewriter<C extends ClientboundPacketType, S
         return (id << 16) | (data & 0xFFFF);
     }
 
-    private record Pos(int x, short y, int z) {
+    /**
+     * Block replacements flattened into arrays indexed by raw id (id << 4 | data).
+     *
+     * @param mappedIds           mapped raw id for every raw id, or the raw id itself if it is not replaced
+     * @param blockEntityHandlers bitset of raw ids with a block entity handler
+     */
+    private record BlockTable(int[] mappedIds, long[] blockEntityHandlers) {
 
-        public Pos(int x, int y, int z) {
-            this(x, (short) y, z);
+        int map(int rawId) {
+            return rawId >= 0 && rawId < mappedIds.length ? mappedIds[rawId] : rawId;
         }
+
+        boolean hasBlockEntityHandler(int rawId) {
+            return rawId >= 0 && rawId < mappedIds.length && (blockEntityHandlers[rawId >> 6] & 1L << rawId) != 0;
+        }
+    }
+
+    private static int packPosition(int x, int y, int z) {
+        return y << 8 | z << 4 | x;
     }
 }
@@ -31,11 +31,21 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 public class LegacyEnchantmentRewriter {
 
+    private static final int MAX_CACHED_LEVEL = 10;
     private final Map<Short, String> enchantmentMappings = new HashMap<>();
+    private final Map<Short, String[]> loreCache = new ConcurrentHashMap<>(); // Enchantment id -> lore by level - 1
+    private final LongAdder loreCacheHits = new LongAdder();
+    private final LongAdder loreCacheMisses = new LongAdder();
     private final String nbtTagName;
+    private final String enchBackupTag;
+    private final String storedEnchantmentsBackupTag;
+    private final String dummyEnchantTag;
+    private final String oldHideFlagsTag;
     private final boolean dummyEnchantment;
 
     private Set<Short> hideLevelForEnchants;
@@ -46,11 +56,16 @@ public class LegacyEnchantmentRewriter {
 
     public LegacyEnchantmentRewriter(String nbtTagName, boolean dummyEnchantment) {
         this.nbtTagName = nbtTagName;
+        this.enchBackupTag = nbtTagName + "|ench";
+        this.storedEnchantmentsBackupTag = nbtTagName + "|StoredEnchantments";
+        this.dummyEnchantTag = nbtTagName + "|dummyEnchant";
+        this.oldHideFlagsTag = nbtTagName + "|oldHideFlags";
         this.dummyEnchantment = dummyEnchantment;
     }
 
     public void registerEnchantment(int id, String replacementLore) {
         enchantmentMappings.put((short) id, replacementLore);
+        loreCache.clear();
     }
 
     public void handleToClient(Item item) {
@@ -69,10 +84,10 @@ public class LegacyEnchantmentRewriter {
         CompoundTag tag = item.tag();
         if (tag == null) return;
 
-        if (tag.getListTag(nbtTagName + "|ench", CompoundTag.class) != null) {
+        if (tag.getListTag(enchBackupTag, CompoundTag.class) != null) {
             rewriteEnchantmentsToServer(tag, false);
         }
-        if (tag.getListTag(nbtTagName + "|StoredEnchantments", CompoundTag.class) != null) {
+        if (tag.getListTag(storedEnchantmentsBackupTag, CompoundTag.class) != null) {
             rewriteEnchantmentsToServer(tag, true);
         }
     }
@@ -95,7 +110,7 @@ public class LegacyEnchantmentRewriter {
                 if (hideLevelForEnchants != null && hideLevelForEnchants.contains(newId)) {
                     lore.add(new StringTag(enchantmentName));
                 } else {
-                    lore.add(new StringTag(enchantmentName + " " + EnchantmentRewriter.getRomanNumber(level)));
+                    lore.add(new StringTag(loreValue(newId, enchantmentName, level)));
                 }
                 remappedEnchantments.add(enchantmentEntry);
             }
@@ -107,20 +122,20 @@ public class LegacyEnchantmentRewriter {
                 dummyEnchantment.putShort("lvl", (short) 0);
 
                 enchantments.add(dummyEnchantment);
-                tag.put(nbtTagName + "|dummyEnchant", new ByteTag(false));
+                tag.put(dummyEnchantTag, new ByteTag(false));
 
                 NumberTag hideFlags = tag.getNumberTag("HideFlags");
                 if (hideFlags == null) {
                     hideFlags = new IntTag();
                 } else {
-                    tag.putInt(nbtTagName + "|oldHideFlags", hideFlags.asByte());
+                    tag.putInt(oldHideFlagsTag, hideFlags.asByte());
                 }
 
                 int flags = hideFlags.asByte() | 1;
                 tag.putInt("HideFlags", flags);
             }
 
-            tag.put(nbtTagName + "|" + key, remappedEnchantments);
+            tag.put(storedEnchant ? storedEnchantmentsBackupTag : enchBackupTag, remappedEnchantments);
 
             CompoundTag display = tag.getCompoundTag("display");
             if (display == null) {
@@ -136,6 +151,31 @@ public class LegacyEnchantmentRewriter {
         }
     }
 
+    private String loreValue(short id, String enchantmentName, short level) {
+        if (level < 1 || level > MAX_CACHED_LEVEL) {
+            loreCacheMisses.increment();
+            return enchantmentName + " " + EnchantmentRewriter.getRomanNumber(level);
+        }
+
+        String[] values = loreCache.computeIfAbsent(id, key -> new String[MAX_CACHED_LEVEL]);
+        String value = values[level - 1];
+        if (value == null) {
+            loreCacheMisses.increment();
+            values[level - 1] = value = enchantmentName + " " + EnchantmentRewriter.getRomanNumber(level);
+        } else {
+            loreCacheHits.increment();
+        }
+        return value;
+    }
+
+    public long loreCacheHits() {
+        return loreCacheHits.sum();
+    }
+
+    public long loreCacheMisses() {
+        return loreCacheMisses.sum();
+    }
+
     public void rewriteEnchantmentsToServer(CompoundTag tag, boolean storedEnchant) {
         String key = storedEnchant ? "StoredEnchantments" : "ench";
         ListTag<CompoundTag> enchantments = tag.getListTag(key, CompoundTag.class);
@@ -143,7 +183,7 @@ public class LegacyEnchantmentRewriter {
             enchantments = new ListTag<>(CompoundTag.class);
         }
 
-        if (!storedEnchant && tag.remove(nbtTagName + "|dummyEnchant") != null) {
+        if (!storedEnchant && tag.remove(dummyEnchantTag) != null) {
             for (CompoundTag enchantment : enchantments.copy()) {
                 NumberTag idTag = enchantment.getNumberTag("id");
                 NumberTag levelTag = enchantment.getNumberTag("lvl");
@@ -154,7 +194,7 @@ public class LegacyEnchantmentRewriter {
                 }
             }
 
-            Tag hideFlags = tag.remove(nbtTagName + "|oldHideFlags");
+            Tag hideFlags = tag.remove(oldHideFlagsTag);
             if (hideFlags instanceof IntTag intTag) {
                 tag.putInt("HideFlags", intTag.asByte());
             } else {
@@ -165,7 +205,7 @@ public class LegacyEnchantmentRewriter {
         CompoundTag display = tag.getCompoundTag("display");
         // A few null checks just to be safe, though they shouldn't actually be
         ListTag<StringTag> lore = display != null ? display.getListTag("Lore", StringTag.class) : null;
-        ListTag<CompoundTag> remappedEnchantments = (ListTag<CompoundTag>) tag.remove(nbtTagName + "|" + key);
+        ListTag<CompoundTag> remappedEnchantments = (ListTag<CompoundTag>) tag.remove(storedEnchant ? storedEnchantmentsBackupTag : enchBackupTag);
         for (CompoundTag enchantment : remappedEnchantments.copy()) {
             enchantments.add(enchantment);
             if (lore != null && !lore.isEmpty()) {
@@ -27,6 +27,7 @@ import com.viaversion.viaversion.api.protocol.packet.ClientboundPacketType;
 import com.viaversion.viaversion.libs.gson.JsonElement;
 import com.viaversion.viaversion.libs.gson.JsonObject;
 import com.viaversion.viaversion.rewriter.ComponentRewriter;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -40,7 +41,10 @@ public class TranslatableRewriter<C extends ClientboundPacketType> extends Compo
         if (!TRANSLATABLES.isEmpty()) {
             throw new IllegalStateException("Translatables already loaded!");
         }
-        fillTranslatables(BackwardsMappingDataLoader.INSTANCE.loadFromDataDir("translation-mappings.json"), TRANSLATABLES);
+        // The loader already shares equal strings between versions
+        for (final Map.Entry<String, Map<String, String>> entry : BackwardsMappingDataLoader.INSTANCE.loadNestedStringMappings("translation-mappings.json").entrySet()) {
+            TRANSLATABLES.put(entry.getKey(), Collections.unmodifiableMap(new HashMap<>(entry.getValue())));
+        }
     }
 
     public static void fillTranslatables(final JsonObject jsonObject, final Map<String, Map<String, String>> translatables) {
@@ -62,7 +66,7 @@ public class TranslatableRewriter<C extends ClientboundPacketType> extends Compo
         final Map<String, String> translatableMappings = getTranslatableMappings(version);
         if (translatableMappings == null) {
             ViaBackwards.getPlatform().getLogger().warning("Missing " + version + " translatables!");
-            this.translatables = new HashMap<>();
+            this.translatables = Collections.emptyMap();
         } else {
             this.translatables = translatableMappings;
         }
@@ -88,6 +92,13 @@ public class TranslatableRewriter<C extends ClientboundPacketType> extends Compo
         return translatables.get(translationKey);
     }
 
+    /**
+     * Returns the translation key mappings of the given version. The returned map is read-only and shared by all
+     * rewriters of that version; lookups, including of null keys, behave like on a {@link HashMap}.
+     *
+     * @param sectionIdentifier version of the mappings, e.g. 1.20.5
+     * @return read-only translation key mappings, or null if there are none for the version
+     */
     public static Map<String, String> getTranslatableMappings(final String sectionIdentifier) {
         return TRANSLATABLES.get(sectionIdentifier);
     }
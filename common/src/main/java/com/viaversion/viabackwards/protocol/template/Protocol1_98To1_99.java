@@ -100,6 +100,7 @@ final class Protocol1_98To1_99 extends BackwardsProtocol<ClientboundPacket1_21_2
 
     @Override
     public void init(final UserConnection user) {
+        super.init(user);
         addEntityTracker(user, new EntityTrackerBase(user, EntityTypes1_21_4.PLAYER));
     }
 
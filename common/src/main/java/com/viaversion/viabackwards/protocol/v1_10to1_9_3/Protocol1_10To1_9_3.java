@@ -98,6 +98,7 @@ public class Protocol1_10To1_9_3 extends BackwardsProtocol<ClientboundPackets1_9
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
         user.addEntityTracker(this.getClass(), new EntityTrackerBase(user, EntityTypes1_10.EntityType.PLAYER));
         user.addClientWorld(this.getClass(), new ClientWorld());
     }
@@ -62,6 +62,7 @@ public class Protocol1_11To1_10 extends BackwardsProtocol<ClientboundPackets1_9_
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
         user.addEntityTracker(this.getClass(), new EntityTrackerBase(user, EntityTypes1_11.EntityType.PLAYER));
         user.addClientWorld(this.getClass(), new ClientWorld());
 
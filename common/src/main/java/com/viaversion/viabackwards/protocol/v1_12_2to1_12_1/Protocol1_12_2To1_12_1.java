@@ -65,6 +65,7 @@ public class Protocol1_12_2To1_12_1 extends BackwardsProtocol<ClientboundPackets
 
     @Override
     public void init(UserConnection userConnection) {
+        super.init(userConnection);
         userConnection.put(new KeepAliveTracker());
     }
 }
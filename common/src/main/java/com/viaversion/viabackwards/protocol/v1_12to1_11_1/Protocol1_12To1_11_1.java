@@ -71,6 +71,7 @@ public class Protocol1_12To1_11_1 extends BackwardsProtocol<ClientboundPackets1_
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
         user.addEntityTracker(this.getClass(), new EntityTrackerBase(user, EntityTypes1_12.EntityType.PLAYER));
         user.addClientWorld(this.getClass(), new ClientWorld());
 
@@ -19,10 +19,12 @@
 package com.viaversion.viabackwards.protocol.v1_13to1_12_2.block_entity_handlers;
 
 import com.viaversion.viabackwards.protocol.v1_13to1_12_2.provider.BackwardsBlockEntityProvider;
+import com.viaversion.viaversion.api.minecraft.chunks.DataPalette;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectMap;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectOpenHashMap;
 import com.viaversion.nbt.tag.CompoundTag;
 import com.viaversion.viaversion.util.Pair;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class FlowerPotHandler implements BackwardsBlockEntityProvider.BackwardsBlockEntityHandler {
 
@@ -62,6 +64,27 @@ public class FlowerPotHandler implements BackwardsBlockEntityProvider.BackwardsB
         return id >= 5265 && id <= 5286;
     }
 
+    /**
+     * Returns which palette indexes hold a flower pot state, or null if there are none in the palette.
+     *
+     * @param palette block palette of a section
+     * @return flags by palette index, or null if the section contains no flower pots
+     */
+    public static boolean @Nullable [] flowahPaletteIndexes(DataPalette palette) {
+        boolean[] indexes = null;
+        for (int i = 0; i < palette.size(); i++) {
+            if (!isFlowah(palette.idByIndex(i))) {
+                continue;
+            }
+
+            if (indexes == null) {
+                indexes = new boolean[palette.size()];
+            }
+            indexes[i] = true;
+        }
+        return indexes;
+    }
+
     public Pair<String, Byte> getOrDefault(int blockId) {
         Pair<String, Byte> pair = FLOWERS.get(blockId);
         return pair != null ? pair : AIR;
@@ -65,6 +65,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ObjIntConsumer;
 
 public class BlockItemPacketRewriter1_13 extends BackwardsItemRewriter<ClientboundPackets1_13, ServerboundPackets1_12_1, Protocol1_13To1_12_2> {
 
@@ -181,16 +183,9 @@ public class BlockItemPacketRewriter1_13 extends BackwardsItemRewriter<Clientbou
         });
 
         protocol.registerClientbound(ClientboundPackets1_13.FORGET_LEVEL_CHUNK, wrapper -> {
-            int chunkMinX = wrapper.passthrough(Types.INT) << 4;
-            int chunkMinZ = wrapper.passthrough(Types.INT) << 4;
-            int chunkMaxX = chunkMinX + 15;
-            int chunkMaxZ = chunkMinZ + 15;
-            BackwardsBlockStorage blockStorage = wrapper.user().get(BackwardsBlockStorage.class);
-            blockStorage.getBlocks().entrySet().removeIf(entry -> {
-                BlockPosition position = entry.getKey();
-                return position.x() >= chunkMinX && position.z() >= chunkMinZ
-                    && position.x() <= chunkMaxX && position.z() <= chunkMaxZ;
-            });
+            int chunkX = wrapper.passthrough(Types.INT);
+            int chunkZ = wrapper.passthrough(Types.INT);
+            wrapper.user().get(BackwardsBlockStorage.class).unloadChunk(chunkX, chunkZ);
         });
 
         // Block Change
@@ -317,60 +312,14 @@ public class BlockItemPacketRewriter1_13 extends BackwardsItemRewriter<Clientbou
             }
 
             // Rewrite new blocks to old blocks
-            for (int i = 0; i < chunk.getSections().length; i++) {
-                ChunkSection section = chunk.getSections()[i];
-                if (section == null) {
-                    continue;
-                }
+            rewriteChunk(chunk, protocol.getMappingData()::getNewBlockStateId, (pos, block) -> {
+                // Store block
+                storage.checkAndStore(pos, block);
 
-                DataPalette palette = section.palette(PaletteType.BLOCKS);
-                // Flower pots require a special treatment, they are no longer block entities :(
-                for (int y = 0; y < 16; y++) {
-                    for (int z = 0; z < 16; z++) {
-                        for (int x = 0; x < 16; x++) {
-                            int block = palette.idAt(x, y, z);
-
-                            // Check if the block is a flower
-                            if (FlowerPotHandler.isFlowah(block)) {
-                                BlockPosition pos = new BlockPosition(
-                                    (x + (chunk.getX() << 4)),
-                                    (short) (y + (i << 4)),
-                                    (z + (chunk.getZ() << 4))
-                                );
-                                // Store block
-                                storage.checkAndStore(pos, block);
-
-                                CompoundTag nbt = provider.transform(wrapper.user(), pos, "minecraft:flower_pot");
-
-                                chunk.getBlockEntities().add(nbt);
-                            }
-                        }
-                    }
-                }
+                CompoundTag nbt = provider.transform(wrapper.user(), pos, "minecraft:flower_pot");
 
-                for (int j = 0; j < palette.size(); j++) {
-                    int mappedBlockStateId = protocol.getMappingData().getNewBlockStateId(palette.idByIndex(j));
-                    palette.setIdByIndex(j, mappedBlockStateId);
-                }
-            }
-
-
-            if (chunk.isBiomeData()) {
-                for (int i = 0; i < 256; i++) {
-                    int biome = chunk.getBiomeData()[i];
-                    int newId = switch (biome) {
-                        case 40, 41, 42, 43 -> 9; // end biomes
-                        case 47, 48, 49 -> 24; // deep ocean biomes
-                        case 50 -> 10; // deep frozen... let's just pick the frozen variant
-                        case 44, 45, 46 -> 0; // the other new ocean biomes
-                        default -> -1;
-                    };
-
-                    if (newId != -1) {
-                        chunk.getBiomeData()[i] = newId;
-                    }
-                }
-            }
+                chunk.getBlockEntities().add(nbt);
+            });
 
             wrapper.write(type_old, chunk);
         });
@@ -476,6 +425,64 @@ public class BlockItemPacketRewriter1_13 extends BackwardsItemRewriter<Clientbou
         });
     }
 
+    /**
+     * Rewrites the sections and biomes of a 1.13 chunk to 1.12.2 ones.
+     *
+     * @param chunk             chunk to rewrite in place
+     * @param blockStateMapper  maps 1.13 block states to 1.12.2 ones
+     * @param flowerPotHandler  called with the position and block state of every flower pot, which are no longer block entities in 1.13
+     */
+    public static void rewriteChunk(Chunk chunk, IntUnaryOperator blockStateMapper, ObjIntConsumer<BlockPosition> flowerPotHandler) {
+        for (int i = 0; i < chunk.getSections().length; i++) {
+            ChunkSection section = chunk.getSections()[i];
+            if (section == null) {
+                continue;
+            }
+
+            DataPalette palette = section.palette(PaletteType.BLOCKS);
+            // Flower pots require a special treatment, they are no longer block entities :(
+            // Only go through the blocks if the palette actually contains one
+            boolean[] flowerPotIndexes = FlowerPotHandler.flowahPaletteIndexes(palette);
+            if (flowerPotIndexes != null) {
+                for (int index = 0; index < ChunkSection.SIZE; index++) {
+                    int paletteIndex = palette.paletteIndexAt(index);
+                    if (!flowerPotIndexes[paletteIndex]) {
+                        continue;
+                    }
+
+                    BlockPosition pos = new BlockPosition(
+                        ((index & 0xF) + (chunk.getX() << 4)),
+                        (short) ((index >> 8) + (i << 4)),
+                        (((index >> 4) & 0xF) + (chunk.getZ() << 4))
+                    );
+                    flowerPotHandler.accept(pos, palette.idByIndex(paletteIndex));
+                }
+            }
+
+            for (int j = 0; j < palette.size(); j++) {
+                int mappedBlockStateId = blockStateMapper.applyAsInt(palette.idByIndex(j));
+                palette.setIdByIndex(j, mappedBlockStateId);
+            }
+        }
+
+        if (chunk.isBiomeData()) {
+            for (int i = 0; i < 256; i++) {
+                int biome = chunk.getBiomeData()[i];
+                int newId = switch (biome) {
+                    case 40, 41, 42, 43 -> 9; // end biomes
+                    case 47, 48, 49 -> 24; // deep ocean biomes
+                    case 50 -> 10; // deep frozen... let's just pick the frozen variant
+                    case 44, 45, 46 -> 0; // the other new ocean biomes
+                    default -> -1;
+                };
+
+                if (newId != -1) {
+                    chunk.getBiomeData()[i] = newId;
+                }
+            }
+        }
+    }
+
     @Override
     protected void registerRewrites() {
         enchantmentMappings.put("minecraft:loyalty", "§7Loyalty");
@@ -149,7 +149,7 @@ public class PlayerPacketRewriter1_13 extends RewriterBase<Protocol1_13To1_12_2>
                         UUID uuid = packetWrapper.passthrough(Types.UUID);
                         if (action == 0) { // Add
                             String name = packetWrapper.passthrough(Types.STRING);
-                            storage.usernames().put(uuid, name);
+                            storage.addUsername(uuid, name);
                             int nProperties = packetWrapper.passthrough(Types.VAR_INT);
                             for (int j = 0; j < nProperties; j++) {
                                 packetWrapper.passthrough(Types.STRING);
@@ -166,7 +166,7 @@ public class PlayerPacketRewriter1_13 extends RewriterBase<Protocol1_13To1_12_2>
                         } else if (action == 3) { // Update Display Name
                             packetWrapper.passthrough(Types.OPTIONAL_COMPONENT);
                         } else if (action == 4) { // Remove Player
-                            storage.usernames().remove(uuid);
+                            storage.removeUsername(uuid);
                         }
                     }
                 });
@@ -314,18 +314,10 @@ public class PlayerPacketRewriter1_13 extends RewriterBase<Protocol1_13To1_12_2>
             if (!assumeCommand && !command.startsWith("/")) {
                 // Complete usernames for non-commands
                 String buffer = command.substring(command.lastIndexOf(' ') + 1);
-                for (String value : storage.usernames().values()) {
-                    if (startsWithIgnoreCase(value, buffer)) {
-                        suggestions.add(value);
-                    }
-                }
+                storage.collectUsernames(buffer, suggestions);
             } else if (!storage.commands().isEmpty() && !command.contains(" ")) {
                 // Complete commands names with values from 'Declare Commands' packet
-                for (String value : storage.commands()) {
-                    if (startsWithIgnoreCase(value, command)) {
-                        suggestions.add(value);
-                    }
-                }
+                storage.commands().collect(command, suggestions);
             }
 
             if (!suggestions.isEmpty()) {
@@ -531,11 +523,4 @@ public class PlayerPacketRewriter1_13 extends RewriterBase<Protocol1_13To1_12_2>
             }
         });
     }
-
-    private static boolean startsWithIgnoreCase(String string, String prefix) {
-        if (string.length() < prefix.length()) {
-            return false;
-        }
-        return string.regionMatches(true, 0, prefix, 0, prefix.length());
-    }
 }
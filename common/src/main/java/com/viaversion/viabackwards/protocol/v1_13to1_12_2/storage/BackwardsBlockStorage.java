@@ -20,11 +20,12 @@ package com.viaversion.viabackwards.protocol.v1_13to1_12_2.storage;
 
 import com.viaversion.viaversion.api.connection.StorableObject;
 import com.viaversion.viaversion.api.minecraft.BlockPosition;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2IntMap;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2IntOpenHashMap;
 import com.viaversion.viaversion.libs.fastutil.ints.IntOpenHashSet;
 import com.viaversion.viaversion.libs.fastutil.ints.IntSet;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import org.checkerframework.checker.nullness.qual.Nullable;
+import com.viaversion.viaversion.libs.fastutil.longs.Long2ObjectMap;
+import com.viaversion.viaversion.libs.fastutil.longs.Long2ObjectOpenHashMap;
 
 public class BackwardsBlockStorage implements StorableObject {
     // This BlockStorage is very exclusive (;
@@ -66,31 +67,88 @@ public class BackwardsBlockStorage implements StorableObject {
         }
     }
 
-    private final Map<BlockPosition, Integer> blocks = new ConcurrentHashMap<>();
+    // Chunk key -> packed section position (y << 8 | z << 4 | x) -> block state
+    private final Long2ObjectMap<Int2IntMap> chunks = new Long2ObjectOpenHashMap<>();
 
     public void checkAndStore(BlockPosition position, int block) {
+        if (position.y() < 0 || position.y() > 255) {
+            return;
+        }
+
+        long chunkKey = chunkKey(position.x() >> 4, position.z() >> 4);
         if (!WHITELIST.contains(block)) {
             // Remove if not whitelisted
-            blocks.remove(position);
+            Int2IntMap blocks = chunks.get(chunkKey);
+            if (blocks != null) {
+                blocks.remove(packedPosition(position));
+                if (blocks.isEmpty()) {
+                    chunks.remove(chunkKey);
+                }
+            }
             return;
         }
 
-        blocks.put(position, block);
+        Int2IntMap blocks = chunks.get(chunkKey);
+        if (blocks == null) {
+            blocks = new Int2IntOpenHashMap();
+            blocks.defaultReturnValue(-1);
+            chunks.put(chunkKey, blocks);
+        }
+        blocks.put(packedPosition(position), block);
     }
 
-    public @Nullable Integer get(BlockPosition position) {
-        return blocks.get(position);
+    /**
+     * Returns the stored block state at the given position.
+     *
+     * @param position block position
+     * @return stored block state, or -1 if none is stored
+     */
+    public int get(BlockPosition position) {
+        if (position.y() < 0 || position.y() > 255) {
+            return -1;
+        }
+
+        Int2IntMap blocks = chunks.get(chunkKey(position.x() >> 4, position.z() >> 4));
+        return blocks != null ? blocks.get(packedPosition(position)) : -1;
     }
 
+    /**
+     * Removes the stored block state at the given position.
+     *
+     * @param position block position
+     * @return removed block state, or -1 if none was stored
+     */
     public int remove(BlockPosition position) {
-        return blocks.remove(position);
+        if (position.y() < 0 || position.y() > 255) {
+            return -1;
+        }
+
+        long chunkKey = chunkKey(position.x() >> 4, position.z() >> 4);
+        Int2IntMap blocks = chunks.get(chunkKey);
+        if (blocks == null) {
+            return -1;
+        }
+
+        int block = blocks.remove(packedPosition(position));
+        if (blocks.isEmpty()) {
+            chunks.remove(chunkKey);
+        }
+        return block;
+    }
+
+    public void unloadChunk(int chunkX, int chunkZ) {
+        chunks.remove(chunkKey(chunkX, chunkZ));
     }
 
     public void clear() {
-        blocks.clear();
+        chunks.clear();
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((chunkX & 0x3FFFFFFL) << 38) | (chunkZ & 0x3FFFFFFL);
     }
 
-    public Map<BlockPosition, Integer> getBlocks() {
-        return blocks;
+    private static int packedPosition(BlockPosition position) {
+        return position.y() << 8 | (position.z() & 0xF) << 4 | (position.x() & 0xF);
     }
 }
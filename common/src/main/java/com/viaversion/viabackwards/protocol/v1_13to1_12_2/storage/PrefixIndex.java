@@ -0,0 +1,85 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.protocol.v1_13to1_12_2.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Case-insensitive sorted index of strings, answering prefix queries with a single range lookup
+ * instead of testing every stored value.
+ */
+public final class PrefixIndex {
+    private final NavigableMap<String, List<String>> values = new TreeMap<>(); // Lowercase value -> original values
+    private final boolean unique;
+
+    /**
+     * @param unique whether values should only be stored once, as in a set, instead of once per {@link #add(String)} call
+     */
+    public PrefixIndex(final boolean unique) {
+        this.unique = unique;
+    }
+
+    public void add(final String value) {
+        final List<String> list = values.computeIfAbsent(key(value), k -> new ArrayList<>(1));
+        if (!unique || !list.contains(value)) {
+            list.add(value);
+        }
+    }
+
+    public void remove(final String value) {
+        final String key = key(value);
+        final List<String> list = values.get(key);
+        if (list != null && list.remove(value) && list.isEmpty()) {
+            values.remove(key);
+        }
+    }
+
+    /**
+     * Adds all values starting with the given prefix, ignoring case, to the given collection.
+     *
+     * @param prefix prefix to match
+     * @param output collection to add matching values to
+     */
+    public void collect(final String prefix, final Collection<String> output) {
+        final String key = key(prefix);
+        for (final Map.Entry<String, List<String>> entry : values.tailMap(key, true).entrySet()) {
+            if (!entry.getKey().startsWith(key)) {
+                break;
+            }
+            output.addAll(entry.getValue());
+        }
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    public void clear() {
+        values.clear();
+    }
+
+    private static String key(final String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -18,24 +18,39 @@
 package com.viaversion.viabackwards.protocol.v1_13to1_12_2.storage;
 
 import com.viaversion.viaversion.api.connection.StorableObject;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 
 public class TabCompleteStorage implements StorableObject {
     private final Map<UUID, String> usernames = new HashMap<>();
-    private final Set<String> commands = new HashSet<>();
+    private final PrefixIndex usernameIndex = new PrefixIndex(false); // Multiple players may share a name
+    private final PrefixIndex commands = new PrefixIndex(true);
     private int lastId;
     private String lastRequest;
     private boolean lastAssumeCommand;
 
-    public Map<UUID, String> usernames() {
-        return usernames;
+    public void addUsername(final UUID uuid, final String name) {
+        final String previous = usernames.put(uuid, name);
+        if (previous != null) {
+            usernameIndex.remove(previous);
+        }
+        usernameIndex.add(name);
     }
 
-    public Set<String> commands() {
+    public void removeUsername(final UUID uuid) {
+        final String name = usernames.remove(uuid);
+        if (name != null) {
+            usernameIndex.remove(name);
+        }
+    }
+
+    public void collectUsernames(final String prefix, final Collection<String> output) {
+        usernameIndex.collect(prefix, output);
+    }
+
+    public PrefixIndex commands() {
         return commands;
     }
 
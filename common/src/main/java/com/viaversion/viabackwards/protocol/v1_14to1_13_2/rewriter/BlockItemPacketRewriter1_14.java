@@ -46,6 +46,7 @@ import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_13;
 import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_14;
 import com.viaversion.viaversion.api.type.types.version.Types1_13;
 import com.viaversion.viaversion.api.type.types.version.Types1_13_2;
+import com.viaversion.viaversion.libs.fastutil.ints.IntSet;
 import com.viaversion.viaversion.libs.gson.JsonElement;
 import com.viaversion.viaversion.libs.gson.JsonObject;
 import com.viaversion.viaversion.libs.gson.JsonParseException;
@@ -64,6 +65,8 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.IntUnaryOperator;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class BlockItemPacketRewriter1_14 extends BackwardsItemRewriter<ClientboundPackets1_14, ServerboundPackets1_13, Protocol1_14To1_13_2> {
 
@@ -365,45 +368,8 @@ public class BlockItemPacketRewriter1_14 extends BackwardsItemRewriter<Clientbou
             wrapper.write(ChunkType1_13.forEnvironment(clientWorld.getEnvironment()), chunk);
 
             ChunkLightStorage.ChunkLight chunkLight = wrapper.user().get(ChunkLightStorage.class).getStoredLight(chunk.getX(), chunk.getZ());
-            for (int i = 0; i < chunk.getSections().length; i++) {
-                ChunkSection section = chunk.getSections()[i];
-                if (section == null) continue;
-
-                ChunkSectionLight sectionLight = ChunkSectionLightImpl.createWithBlockLight();
-                section.setLight(sectionLight);
-                if (chunkLight == null) {
-                    sectionLight.setBlockLight(ChunkLightStorage.FULL_LIGHT);
-                    if (clientWorld.getEnvironment() == Environment.NORMAL) {
-                        sectionLight.setSkyLight(ChunkLightStorage.FULL_LIGHT);
-                    }
-                } else {
-                    byte[] blockLight = chunkLight.blockLight()[i];
-                    sectionLight.setBlockLight(blockLight != null ? blockLight : ChunkLightStorage.FULL_LIGHT);
-                    if (clientWorld.getEnvironment() == Environment.NORMAL) {
-                        byte[] skyLight = chunkLight.skyLight()[i];
-                        sectionLight.setSkyLight(skyLight != null ? skyLight : ChunkLightStorage.FULL_LIGHT);
-                    }
-                }
-
-                DataPalette palette = section.palette(PaletteType.BLOCKS);
-                if (Via.getConfig().isNonFullBlockLightFix() && section.getNonAirBlocksCount() != 0 && sectionLight.hasBlockLight()) {
-                    for (int x = 0; x < 16; x++) {
-                        for (int y = 0; y < 16; y++) {
-                            for (int z = 0; z < 16; z++) {
-                                int id = palette.idAt(x, y, z);
-                                if (Protocol1_13_2To1_14.MAPPINGS.getNonFullBlocks().contains(id)) {
-                                    sectionLight.getBlockLightNibbleArray().set(x, y, z, 0);
-                                }
-                            }
-                        }
-                    }
-                }
-
-                for (int j = 0; j < palette.size(); j++) {
-                    int mappedBlockStateId = protocol.getMappingData().getNewBlockStateId(palette.idByIndex(j));
-                    palette.setIdByIndex(j, mappedBlockStateId);
-                }
-            }
+            IntSet nonFullBlocks = Via.getConfig().isNonFullBlockLightFix() ? Protocol1_13_2To1_14.MAPPINGS.getNonFullBlocks() : null;
+            rewriteChunk(chunk, chunkLight, clientWorld.getEnvironment() == Environment.NORMAL, nonFullBlocks, protocol.getMappingData()::getNewBlockStateId);
         });
 
         protocol.registerClientbound(ClientboundPackets1_14.FORGET_LEVEL_CHUNK, wrapper -> {
@@ -448,6 +414,79 @@ public class BlockItemPacketRewriter1_14 extends BackwardsItemRewriter<Clientbou
         });
     }
 
+    /**
+     * Adds light to the sections of a 1.14 chunk and rewrites their blocks to 1.13.2 ones.
+     *
+     * @param chunk            chunk to rewrite in place
+     * @param chunkLight       light sent ahead of the chunk, or null to use full light
+     * @param skyLight         whether the sections need sky light
+     * @param nonFullBlocks    block states to remove the block light of, or null to keep it
+     * @param blockStateMapper maps 1.14 block states to 1.13.2 ones
+     */
+    public static void rewriteChunk(
+        Chunk chunk,
+        ChunkLightStorage.@Nullable ChunkLight chunkLight,
+        boolean skyLight,
+        @Nullable IntSet nonFullBlocks,
+        IntUnaryOperator blockStateMapper
+    ) {
+        for (int i = 0; i < chunk.getSections().length; i++) {
+            ChunkSection section = chunk.getSections()[i];
+            if (section == null) continue;
+
+            // The stored arrays are shared, so they have to be copied before being modified
+            ChunkSectionLight sectionLight = ChunkSectionLightImpl.createWithBlockLight();
+            section.setLight(sectionLight);
+            byte[] blockLight = ChunkLightStorage.FULL_LIGHT;
+            if (chunkLight == null) {
+                sectionLight.setBlockLight(blockLight);
+                if (skyLight) {
+                    sectionLight.setSkyLight(ChunkLightStorage.FULL_LIGHT);
+                }
+            } else {
+                if (chunkLight.blockLight()[i] != null) {
+                    blockLight = chunkLight.blockLight()[i];
+                }
+                sectionLight.setBlockLight(blockLight);
+                if (skyLight) {
+                    byte[] sectionSkyLight = chunkLight.skyLight()[i];
+                    sectionLight.setSkyLight(sectionSkyLight != null ? sectionSkyLight : ChunkLightStorage.FULL_LIGHT);
+                }
+            }
+
+            DataPalette palette = section.palette(PaletteType.BLOCKS);
+            if (nonFullBlocks != null && section.getNonAirBlocksCount() != 0 && sectionLight.hasBlockLight()) {
+                boolean[] nonFullIndexes = nonFullPaletteIndexes(palette, nonFullBlocks);
+                if (nonFullIndexes != null) {
+                    sectionLight.setBlockLight(blockLight.clone());
+                    for (int index = 0; index < ChunkSection.SIZE; index++) {
+                        if (nonFullIndexes[palette.paletteIndexAt(index)]) {
+                            sectionLight.getBlockLightNibbleArray().set(index & 0xF, index >> 8, (index >> 4) & 0xF, 0);
+                        }
+                    }
+                }
+            }
+
+            for (int j = 0; j < palette.size(); j++) {
+                int mappedBlockStateId = blockStateMapper.applyAsInt(palette.idByIndex(j));
+                palette.setIdByIndex(j, mappedBlockStateId);
+            }
+        }
+    }
+
+    private static boolean @Nullable [] nonFullPaletteIndexes(DataPalette palette, IntSet nonFullBlocks) {
+        boolean[] indexes = null;
+        for (int i = 0; i < palette.size(); i++) {
+            if (nonFullBlocks.contains(palette.idByIndex(i))) {
+                if (indexes == null) {
+                    indexes = new boolean[palette.size()];
+                }
+                indexes[i] = true;
+            }
+        }
+        return indexes;
+    }
+
     @Override
     protected void registerRewrites() {
         enchantmentRewriter = new EnchantmentRewriter(this, false);
@@ -18,57 +18,135 @@
 package com.viaversion.viabackwards.protocol.v1_14to1_13_2.storage;
 
 import com.viaversion.viaversion.api.connection.StorableObject;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import com.viaversion.viaversion.libs.fastutil.longs.Long2ObjectMap;
+import com.viaversion.viaversion.libs.fastutil.longs.Long2ObjectOpenHashMap;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * Stores light sent ahead of chunks. Uniform arrays are replaced by {@link #FULL_LIGHT} and {@link #EMPTY_LIGHT},
+ * other identical arrays are shared between all chunks of the connection, so stored arrays must never be modified.
+ */
 public class ChunkLightStorage implements StorableObject {
     public static final byte[] FULL_LIGHT = new byte[2048];
     public static final byte[] EMPTY_LIGHT = new byte[2048];
-    private static Constructor<?> fastUtilLongObjectHashMap;
 
-    private final Map<Long, ChunkLight> storedLight = createLongObjectMap();
+    private final Long2ObjectMap<ChunkLight> storedLight = new Long2ObjectOpenHashMap<>();
+    private final Map<SharedLight, SharedLight> sharedLight = new HashMap<>();
 
     static {
         Arrays.fill(FULL_LIGHT, (byte) 0xFF);
         Arrays.fill(EMPTY_LIGHT, (byte) 0x0);
-        try {
-            fastUtilLongObjectHashMap = Class.forName("it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap").getConstructor();
-        } catch (ClassNotFoundException | NoSuchMethodException ignored) {
-        }
     }
 
     public void setStoredLight(byte[][] skyLight, byte[][] blockLight, int x, int z) {
-        storedLight.put(getChunkSectionIndex(x, z), new ChunkLight(skyLight, blockLight));
+        share(skyLight);
+        share(blockLight);
+
+        ChunkLight previous = storedLight.put(getChunkSectionIndex(x, z), new ChunkLight(skyLight, blockLight));
+        if (previous != null) {
+            release(previous);
+        }
     }
 
-    public ChunkLight getStoredLight(int x, int z) {
+    public @Nullable ChunkLight getStoredLight(int x, int z) {
         return storedLight.get(getChunkSectionIndex(x, z));
     }
 
     public void clear() {
         storedLight.clear();
+        sharedLight.clear();
     }
 
     public void unloadChunk(int x, int z) {
-        storedLight.remove(getChunkSectionIndex(x, z));
+        ChunkLight light = storedLight.remove(getChunkSectionIndex(x, z));
+        if (light != null) {
+            release(light);
+        }
     }
 
     private long getChunkSectionIndex(int x, int z) {
         return ((x & 0x3FFFFFFL) << 38) | (z & 0x3FFFFFFL);
     }
 
-    private Map<Long, ChunkLight> createLongObjectMap() {
-        if (fastUtilLongObjectHashMap != null) {
-            try {
-                return (Map<Long, ChunkLight>) fastUtilLongObjectHashMap.newInstance();
-            } catch (IllegalAccessException | InstantiationException | InvocationTargetException e) {
-                e.printStackTrace();
+    private void share(byte[][] sections) {
+        for (int i = 0; i < sections.length; i++) {
+            byte[] data = sections[i];
+            if (data == null || data == FULL_LIGHT || data == EMPTY_LIGHT) {
+                continue;
+            }
+
+            if (isFilledWith(data, (byte) 0xFF)) {
+                sections[i] = FULL_LIGHT;
+            } else if (isFilledWith(data, (byte) 0)) {
+                sections[i] = EMPTY_LIGHT;
+            } else {
+                SharedLight key = new SharedLight(data);
+                SharedLight shared = sharedLight.putIfAbsent(key, key);
+                if (shared == null) {
+                    shared = key;
+                }
+
+                shared.references++;
+                sections[i] = shared.data;
+            }
+        }
+    }
+
+    private void release(ChunkLight light) {
+        release(light.skyLight());
+        release(light.blockLight());
+    }
+
+    private void release(byte[][] sections) {
+        for (byte[] data : sections) {
+            if (data == null || data == FULL_LIGHT || data == EMPTY_LIGHT) {
+                continue;
             }
+
+            SharedLight shared = sharedLight.get(new SharedLight(data));
+            if (shared != null && --shared.references <= 0) {
+                sharedLight.remove(shared);
+            }
+        }
+    }
+
+    private static boolean isFilledWith(byte[] data, byte value) {
+        if (data.length != FULL_LIGHT.length) {
+            return false;
+        }
+
+        for (byte b : data) {
+            if (b != value) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class SharedLight {
+        private final byte[] data;
+        private final int hashCode;
+        private int references;
+
+        private SharedLight(byte[] data) {
+            this.data = data;
+            this.hashCode = Arrays.hashCode(data);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SharedLight that)) return false;
+            return hashCode == that.hashCode && Arrays.equals(data, that.data);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
         }
-        return new HashMap<>();
     }
 
     public record ChunkLight(byte[][] skyLight, byte[][] blockLight) {
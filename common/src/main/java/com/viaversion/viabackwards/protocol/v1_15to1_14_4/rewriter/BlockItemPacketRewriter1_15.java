@@ -63,26 +63,7 @@ public class BlockItemPacketRewriter1_15 extends BackwardsItemRewriter<Clientbou
             wrapper.write(ChunkType1_14.TYPE, chunk);
 
             if (chunk.isFullChunk()) {
-                int[] biomeData = chunk.getBiomeData();
-                int[] newBiomeData = new int[256];
-                for (int i = 0; i < 4; ++i) {
-                    for (int j = 0; j < 4; ++j) {
-                        int x = j << 2;
-                        int z = i << 2;
-                        int newIndex = z << 4 | x;
-                        int oldIndex = i << 2 | j;
-
-                        int biome = biomeData[oldIndex];
-                        for (int k = 0; k < 4; k++) {
-                            int offX = newIndex + (k << 4);
-                            for (int l = 0; l < 4; l++) {
-                                newBiomeData[offX + l] = biome;
-                            }
-                        }
-                    }
-                }
-
-                chunk.setBiomeData(newBiomeData);
+                chunk.setBiomeData(toBiomes1_14(chunk.getBiomeData()));
             }
 
             blockRewriter.handleChunk(chunk);
@@ -121,4 +102,31 @@ public class BlockItemPacketRewriter1_15 extends BackwardsItemRewriter<Clientbou
             }
         });
     }
+
+    /**
+     * Converts 1.15 biomes, stored per 4x4x4 area, to one biome per column, taken from the lowest areas.
+     *
+     * @param biomeData 1.15 biome data
+     * @return 1.14 biome data
+     */
+    public static int[] toBiomes1_14(int[] biomeData) {
+        int[] newBiomeData = new int[256];
+        for (int i = 0; i < 4; ++i) {
+            for (int j = 0; j < 4; ++j) {
+                int x = j << 2;
+                int z = i << 2;
+                int newIndex = z << 4 | x;
+                int oldIndex = i << 2 | j;
+
+                int biome = biomeData[oldIndex];
+                for (int k = 0; k < 4; k++) {
+                    int offX = newIndex + (k << 4);
+                    for (int l = 0; l < 4; l++) {
+                        newBiomeData[offX + l] = biome;
+                    }
+                }
+            }
+        }
+        return newBiomeData;
+    }
 }
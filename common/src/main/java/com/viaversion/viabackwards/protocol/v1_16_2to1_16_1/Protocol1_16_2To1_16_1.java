@@ -126,6 +126,7 @@ public class Protocol1_16_2To1_16_1 extends BackwardsProtocol<ClientboundPackets
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
         user.put(new BiomeStorage());
         user.addEntityTracker(this.getClass(), new EntityTrackerBase(user, EntityTypes1_16_2.PLAYER));
     }
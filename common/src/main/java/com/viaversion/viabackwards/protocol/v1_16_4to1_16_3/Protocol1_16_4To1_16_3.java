@@ -58,6 +58,7 @@ public class Protocol1_16_4To1_16_3 extends BackwardsProtocol<ClientboundPackets
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
         user.put(new PlayerHandStorage());
     }
 }
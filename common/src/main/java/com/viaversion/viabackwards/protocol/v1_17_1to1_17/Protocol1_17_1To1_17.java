@@ -151,6 +151,7 @@ public final class Protocol1_17_1To1_17 extends BackwardsProtocol<ClientboundPac
 
     @Override
     public void init(UserConnection connection) {
+        super.init(connection);
         connection.put(new InventoryStateIds());
     }
 }
@@ -219,6 +219,7 @@ public final class Protocol1_17To1_16_4 extends BackwardsProtocol<ClientboundPac
 
     @Override
     public void init(UserConnection user) {
+        super.init(user);
         addEntityTracker(user, new EntityTrackerBase(user, EntityTypes1_17.PLAYER));
         user.put(new PlayerLastCursorItem());
     }
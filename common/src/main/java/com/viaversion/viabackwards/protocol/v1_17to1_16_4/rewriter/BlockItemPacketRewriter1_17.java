@@ -346,28 +346,7 @@ public final class BlockItemPacketRewriter1_17 extends BackwardsItemRewriter<Cli
             Chunk chunk = wrapper.read(new ChunkType1_17(currentWorldSectionHeight));
             wrapper.write(ChunkType1_16_2.TYPE, chunk);
 
-            // Cut sections
-            int startFromSection = Math.max(0, -(tracker.currentMinY() >> 4));
-            chunk.setBiomeData(Arrays.copyOfRange(chunk.getBiomeData(), startFromSection * 64, (startFromSection * 64) + 1024));
-
-            chunk.setBitmask(cutMask(chunk.getChunkMask(), startFromSection, false));
-            chunk.setChunkMask(null);
-
-            ChunkSection[] sections = Arrays.copyOfRange(chunk.getSections(), startFromSection, startFromSection + 16);
-            chunk.setSections(sections);
-
-            CompoundTag heightMaps = chunk.getHeightMap();
-            for (Tag heightMapTag : heightMaps.values()) {
-                if (!(heightMapTag instanceof final LongArrayTag heightMap)) {
-                    continue; // Client can handle bad data
-                }
-
-                int[] heightMapData = new int[256];
-                int bitsPerEntry = MathUtil.ceilLog2((currentWorldSectionHeight << 4) + 1);
-                // Shift back to 0 based and clamp to normal height with 9 bits
-                CompactArrayUtil.iterateCompactArrayWithPadding(bitsPerEntry, heightMapData.length, heightMap.getValue(), (i, v) -> heightMapData[i] = MathUtil.clamp(v + tracker.currentMinY(), 0, 255));
-                heightMap.setValue(CompactArrayUtil.createCompactArrayWithPadding(9, heightMapData.length, i -> heightMapData[i]));
-            }
+            cutChunk(chunk, currentWorldSectionHeight, tracker.currentMinY());
 
             blockRewriter.handleChunk(chunk);
 
@@ -433,12 +412,44 @@ public final class BlockItemPacketRewriter1_17 extends BackwardsItemRewriter<Cli
         });
     }
 
+    /**
+     * Cuts a 1.17 chunk down to the 16 sections starting at y=0 and converts its masks and heightmaps to the 1.16.2 format.
+     *
+     * @param chunk                     chunk to rewrite in place
+     * @param currentWorldSectionHeight number of sections in the world
+     * @param currentMinY               minimum y of the world
+     */
+    public static void cutChunk(Chunk chunk, int currentWorldSectionHeight, int currentMinY) {
+        // Cut sections
+        int startFromSection = Math.max(0, -(currentMinY >> 4));
+        chunk.setBiomeData(Arrays.copyOfRange(chunk.getBiomeData(), startFromSection * 64, (startFromSection * 64) + 1024));
+
+        chunk.setBitmask(cutMask(chunk.getChunkMask(), startFromSection, false));
+        chunk.setChunkMask(null);
+
+        ChunkSection[] sections = Arrays.copyOfRange(chunk.getSections(), startFromSection, startFromSection + 16);
+        chunk.setSections(sections);
+
+        CompoundTag heightMaps = chunk.getHeightMap();
+        for (Tag heightMapTag : heightMaps.values()) {
+            if (!(heightMapTag instanceof final LongArrayTag heightMap)) {
+                continue; // Client can handle bad data
+            }
+
+            int[] heightMapData = new int[256];
+            int bitsPerEntry = MathUtil.ceilLog2((currentWorldSectionHeight << 4) + 1);
+            // Shift back to 0 based and clamp to normal height with 9 bits
+            CompactArrayUtil.iterateCompactArrayWithPadding(bitsPerEntry, heightMapData.length, heightMap.getValue(), (i, v) -> heightMapData[i] = MathUtil.clamp(v + currentMinY, 0, 255));
+            heightMap.setValue(CompactArrayUtil.createCompactArrayWithPadding(9, heightMapData.length, i -> heightMapData[i]));
+        }
+    }
+
     private int cutLightMask(long[] mask, int startFromSection) {
         if (mask.length == 0) return 0;
         return cutMask(BitSet.valueOf(mask), startFromSection, true);
     }
 
-    private int cutMask(BitSet mask, int startFromSection, boolean lightMask) {
+    private static int cutMask(BitSet mask, int startFromSection, boolean lightMask) {
         int cutMask = 0;
         // Light masks have a section below and above the 16 main sections
         int to = startFromSection + (lightMask ? 18 : 16);
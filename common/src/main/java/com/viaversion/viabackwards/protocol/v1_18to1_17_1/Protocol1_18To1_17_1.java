@@ -134,6 +134,7 @@ public final class Protocol1_18To1_17_1 extends BackwardsProtocol<ClientboundPac
 
     @Override
     public void init(final UserConnection connection) {
+        super.init(connection);
         addEntityTracker(connection, new EntityTrackerBase(connection, EntityTypes1_17.PLAYER));
     }
 
@@ -42,6 +42,7 @@ import com.viaversion.viaversion.rewriter.RecipeRewriter;
 import com.viaversion.viaversion.util.Key;
 import com.viaversion.viaversion.util.MathUtil;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.List;
 
@@ -171,26 +172,6 @@ public final class BlockItemPacketRewriter1_18 extends BackwardsItemRewriter<Cli
                 MathUtil.ceilLog2(protocol.getMappingData().getBlockStateMappings().mappedSize()),
                 MathUtil.ceilLog2(tracker.biomesSent()));
             final Chunk oldChunk = wrapper.read(chunkType);
-            final ChunkSection[] sections = oldChunk.getSections();
-            final BitSet mask = new BitSet(oldChunk.getSections().length);
-            final int[] biomeData = new int[sections.length * ChunkSection.BIOME_SIZE];
-            int biomeIndex = 0;
-            for (int j = 0; j < sections.length; j++) {
-                final ChunkSection section = sections[j];
-                // Write biome palette into biome array
-                final DataPalette biomePalette = section.palette(PaletteType.BIOMES);
-                for (int i = 0; i < ChunkSection.BIOME_SIZE; i++) {
-                    biomeData[biomeIndex++] = biomePalette.idAt(i);
-                }
-
-                // Rewrite to empty section
-                if (section.getNonAirBlocksCount() == 0) {
-                    sections[j] = null;
-                } else {
-                    mask.set(j);
-                }
-            }
-
             final List<CompoundTag> blockEntityTags = new ArrayList<>(oldChunk.blockEntities().size());
             for (final BlockEntity blockEntity : oldChunk.blockEntities()) {
                 final String id = protocol.getMappingData().blockEntities().get(blockEntity.typeId());
@@ -214,8 +195,7 @@ public final class BlockItemPacketRewriter1_18 extends BackwardsItemRewriter<Cli
                 tag.putString("id", Key.namespaced(id));
             }
 
-            final Chunk chunk = new BaseChunk(oldChunk.getX(), oldChunk.getZ(), true, false, mask,
-                oldChunk.getSections(), biomeData, oldChunk.getHeightMap(), blockEntityTags);
+            final Chunk chunk = toChunk1_17(oldChunk, blockEntityTags);
             wrapper.write(new ChunkType1_17(tracker.currentWorldSectionHeight()), chunk);
 
             // Create and send light packet first
@@ -246,6 +226,43 @@ public final class BlockItemPacketRewriter1_18 extends BackwardsItemRewriter<Cli
         protocol.cancelClientbound(ClientboundPackets1_18.SET_SIMULATION_DISTANCE);
     }
 
+    /**
+     * Converts a 1.18 chunk to a 1.17.1 one, with biomes flattened into an array and empty sections removed.
+     *
+     * @param oldChunk      1.18 chunk, its sections are reused
+     * @param blockEntities block entities of the new chunk
+     * @return 1.17.1 chunk
+     */
+    public static Chunk toChunk1_17(final Chunk oldChunk, final List<CompoundTag> blockEntities) {
+        final ChunkSection[] sections = oldChunk.getSections();
+        final BitSet mask = new BitSet(sections.length);
+        final int[] biomeData = new int[sections.length * ChunkSection.BIOME_SIZE];
+        int biomeIndex = 0;
+        for (int j = 0; j < sections.length; j++) {
+            final ChunkSection section = sections[j];
+            // Write biome palette into biome array
+            final DataPalette biomePalette = section.palette(PaletteType.BIOMES);
+            if (biomePalette.size() == 1) {
+                // Single biome sections are by far the most common, skip the per-entry lookups
+                Arrays.fill(biomeData, biomeIndex, biomeIndex + ChunkSection.BIOME_SIZE, biomePalette.idByIndex(0));
+                biomeIndex += ChunkSection.BIOME_SIZE;
+            } else {
+                for (int i = 0; i < ChunkSection.BIOME_SIZE; i++) {
+                    biomeData[biomeIndex++] = biomePalette.idAt(i);
+                }
+            }
+
+            // Rewrite to empty section
+            if (section.getNonAirBlocksCount() == 0) {
+                sections[j] = null;
+            } else {
+                mask.set(j);
+            }
+        }
+
+        return new BaseChunk(oldChunk.getX(), oldChunk.getZ(), true, false, mask, sections, biomeData, oldChunk.getHeightMap(), blockEntities);
+    }
+
     private void handleSpawner(final int typeId, final CompoundTag tag) {
         if (typeId == 8) {
             final CompoundTag spawnData = tag.getCompoundTag("SpawnData");
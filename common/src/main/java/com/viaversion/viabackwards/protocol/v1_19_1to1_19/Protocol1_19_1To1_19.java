@@ -389,6 +389,7 @@ public final class Protocol1_19_1To1_19 extends BackwardsProtocol<ClientboundPac
 
     @Override
     public void init(final UserConnection user) {
+        super.init(user);
         user.put(new ChatRegistryStorage1_19_1());
         user.put(new ReceivedMessagesStorage());
         addEntityTracker(user, new EntityTrackerBase(user, EntityTypes1_19.PLAYER));
@@ -17,6 +17,7 @@
  */
 package com.viaversion.viabackwards.protocol.v1_19_1to1_19.storage;
 
+import com.viaversion.viabackwards.utils.SharedTags;
 import com.viaversion.viaversion.api.connection.StorableObject;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectMap;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectOpenHashMap;
@@ -33,7 +34,7 @@ public abstract class ChatRegistryStorage implements StorableObject {
     }
 
     public void addChatType(final int id, final CompoundTag chatType) {
-        chatTypes.put(id, chatType);
+        chatTypes.put(id, SharedTags.intern(chatType));
     }
 
     public void clear() {
@@ -395,6 +395,7 @@ public final class Protocol1_19_3To1_19_1 extends BackwardsProtocol<ClientboundP
 
     @Override
     public void init(final UserConnection user) {
+        super.init(user);
         user.put(new ChatSessionStorage());
         user.put(new ChatTypeStorage1_19_3());
         addEntityTracker(user, new EntityTrackerBase(user, EntityTypes1_19_3.PLAYER));
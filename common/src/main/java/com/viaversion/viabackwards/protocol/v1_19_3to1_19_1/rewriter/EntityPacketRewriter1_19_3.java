@@ -84,7 +84,7 @@ public final class EntityPacketRewriter1_19_3 extends EntityRewriter<Clientbound
                     final ListTag<CompoundTag> chatTypes = TagUtil.getRegistryEntries(registry, "chat_type", new ListTag<>(CompoundTag.class));
                     for (final CompoundTag chatType : chatTypes) {
                         final NumberTag idTag = chatType.getNumberTag("id");
-                        chatTypeStorage.addChatType(idTag.asInt(), chatType);
+                        chatTypeStorage.addChatType(idTag.asInt(), chatType.copy()); // Still sent to the client
                     }
                 });
                 handler(wrapper -> {
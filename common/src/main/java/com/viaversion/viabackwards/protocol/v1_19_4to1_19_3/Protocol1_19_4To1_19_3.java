@@ -113,6 +113,7 @@ public final class Protocol1_19_4To1_19_3 extends BackwardsProtocol<ClientboundP
 
     @Override
     public void init(final UserConnection user) {
+        super.init(user);
         addEntityTracker(user, new EntityTracker1_19_4(user));
     }
 
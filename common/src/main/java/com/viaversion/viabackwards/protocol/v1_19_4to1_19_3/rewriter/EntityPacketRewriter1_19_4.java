@@ -50,7 +50,12 @@ public final class EntityPacketRewriter1_19_4 extends EntityRewriter<Clientbound
 
     @Override
     public void registerPackets() {
-        registerRemoveEntities(ClientboundPackets1_19_4.REMOVE_ENTITIES);
+        protocol.registerClientbound(ClientboundPackets1_19_4.REMOVE_ENTITIES, wrapper -> {
+            // Remove linked entities in the same packet
+            final int[] entityIds = wrapper.read(Types.VAR_INT_ARRAY_PRIMITIVE);
+            final EntityTracker1_19_4 tracker = tracker(wrapper.user());
+            wrapper.write(Types.VAR_INT_ARRAY_PRIMITIVE, tracker.removeEntities(entityIds));
+        });
         registerSetEntityData(ClientboundPackets1_19_4.SET_ENTITY_DATA, Types1_19_4.ENTITY_DATA_LIST, Types1_19_3.ENTITY_DATA_LIST);
 
         protocol.registerClientbound(ClientboundPackets1_19_4.ADD_ENTITY, new PacketHandlers() {
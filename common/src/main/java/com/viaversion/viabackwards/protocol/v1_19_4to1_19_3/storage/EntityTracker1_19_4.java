@@ -25,15 +25,16 @@ import com.viaversion.viaversion.api.minecraft.entities.EntityTypes1_19_4;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.type.Types;
 import com.viaversion.viaversion.data.entity.EntityTrackerBase;
-import com.viaversion.viaversion.libs.fastutil.ints.IntOpenHashSet;
-import com.viaversion.viaversion.libs.fastutil.ints.IntSet;
+import com.viaversion.viaversion.libs.fastutil.ints.IntArrayList;
 import com.viaversion.viaversion.protocols.v1_19_1to1_19_3.packet.ClientboundPackets1_19_3;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 public final class EntityTracker1_19_4 extends EntityTrackerBase {
 
-    private final IntSet generatedEntities = new IntOpenHashSet(); // Track entities spawned to prevent duplicated entity ids
+    private final IntArrayList freeEntityIds = new IntArrayList(); // Ids of removed generated entities, reused before new ones are taken
+    private int lastEntityId; // Generated entities count down from -1 to not collide with server entities
 
     public EntityTracker1_19_4(final UserConnection connection) {
         super(connection, EntityTypes1_19_4.PLAYER);
@@ -42,9 +43,10 @@ public final class EntityTracker1_19_4 extends EntityTrackerBase {
     public int spawnEntity(final EntityTypes1_19_3 entityType, final double x, final double y, final double z, final int data) {
         final int entityId = nextEntityId();
 
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
         final PacketWrapper addEntity = PacketWrapper.create(ClientboundPackets1_19_3.ADD_ENTITY, user());
         addEntity.write(Types.VAR_INT, entityId); // Entity id
-        addEntity.write(Types.UUID, UUID.randomUUID()); // Entity UUID
+        addEntity.write(Types.UUID, new UUID(random.nextLong(), random.nextLong())); // Entity UUID
         addEntity.write(Types.VAR_INT, entityType.getId()); // Entity type
         addEntity.write(Types.DOUBLE, x); // X
         addEntity.write(Types.DOUBLE, y); // Y
@@ -58,16 +60,19 @@ public final class EntityTracker1_19_4 extends EntityTrackerBase {
         addEntity.write(Types.SHORT, (short) 0); // Velocity Z
 
         addEntity.send(Protocol1_19_4To1_19_3.class);
-
-        generatedEntities.add(entityId);
         return entityId;
     }
 
     @Override
     public void clearEntities() {
+        final IntArrayList linkedEntities = new IntArrayList();
         for (final int id : entities.keySet()) {
-            clearLinkedEntities(id);
+            final int[] linked = takeLinkedEntities(id);
+            if (linked != null) {
+                linkedEntities.addElements(linkedEntities.size(), linked);
+            }
         }
+        sendRemoveEntities(linkedEntities.toIntArray());
         super.clearEntities();
     }
 
@@ -77,12 +82,54 @@ public final class EntityTracker1_19_4 extends EntityTrackerBase {
         super.removeEntity(id);
     }
 
+    /**
+     * Removes the given entities and returns them together with their linked entities, to be sent in a single packet.
+     *
+     * @param ids entity ids removed by the server
+     * @return entity ids to remove on the client
+     */
+    public int[] removeEntities(final int[] ids) {
+        IntArrayList removedEntities = null;
+        for (final int id : ids) {
+            final int[] linked = takeLinkedEntities(id);
+            if (linked != null) {
+                if (removedEntities == null) {
+                    removedEntities = new IntArrayList(ids);
+                }
+                removedEntities.addElements(removedEntities.size(), linked);
+            }
+            super.removeEntity(id);
+        }
+        return removedEntities != null ? removedEntities.toIntArray() : ids;
+    }
+
     public void clearLinkedEntities(final int id) {
+        final int[] linked = takeLinkedEntities(id);
+        if (linked != null) {
+            sendRemoveEntities(linked);
+        }
+    }
+
+    private int @Nullable [] takeLinkedEntities(final int id) {
         final LinkedEntityStorage storage = linkedEntityStorage(id);
-        if (storage != null && storage.entities() != null) {
-            storage.remove(user());
-            generatedEntities.remove(id);
+        if (storage == null || storage.entities() == null) {
+            return null;
         }
+
+        final int[] linked = storage.entities();
+        storage.setEntities((int[]) null);
+        freeEntityIds.addElements(freeEntityIds.size(), linked);
+        return linked;
+    }
+
+    private void sendRemoveEntities(final int[] ids) {
+        if (ids.length == 0) {
+            return;
+        }
+
+        final PacketWrapper wrapper = PacketWrapper.create(ClientboundPackets1_19_3.REMOVE_ENTITIES, user());
+        wrapper.write(Types.VAR_INT_ARRAY_PRIMITIVE, ids);
+        wrapper.send(Protocol1_19_4To1_19_3.class);
     }
 
     public LinkedEntityStorage linkedEntityStorage(final int id) {
@@ -94,11 +141,10 @@ public final class EntityTracker1_19_4 extends EntityTrackerBase {
     }
 
     private int nextEntityId() {
-        final int entityId = -ThreadLocalRandom.current().nextInt(10_000);
-        if (generatedEntities.contains(entityId)) {
-            return nextEntityId();
+        if (!freeEntityIds.isEmpty()) {
+            return freeEntityIds.removeInt(freeEntityIds.size() - 1);
         }
-        return entityId;
+        return --lastEntityId;
     }
 
 }
@@ -362,6 +362,7 @@ public final class Protocol1_19To1_18_2 extends BackwardsProtocol<ClientboundPac
 
     @Override
     public void init(final UserConnection user) {
+        super.init(user);
         user.put(new DimensionRegistryStorage());
         addEntityTracker(user, new EntityTracker1_19(user));
     }
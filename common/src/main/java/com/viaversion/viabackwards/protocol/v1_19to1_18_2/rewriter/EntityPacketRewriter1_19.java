@@ -240,6 +240,7 @@ public final class EntityPacketRewriter1_19 extends EntityRewriter<ClientboundPa
                         throw new IllegalArgumentException("Could not find dimension " + dimensionKey + " in dimension registry");
                     }
 
+                    // Already a copy of the shared tag, later protocols modify it
                     wrapper.write(Types.NAMED_COMPOUND_TAG, dimension);
                 });
                 map(Types.STRING); // World
@@ -18,6 +18,7 @@
 package com.viaversion.viabackwards.protocol.v1_19to1_18_2.storage;
 
 import com.viaversion.viabackwards.protocol.v1_19to1_18_2.Protocol1_19To1_18_2;
+import com.viaversion.viabackwards.utils.SharedTags;
 import com.viaversion.viaversion.api.connection.StorableObject;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectMap;
 import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectOpenHashMap;
@@ -32,13 +33,20 @@ public final class DimensionRegistryStorage implements StorableObject {
     private final Map<String, CompoundTag> dimensions = new HashMap<>();
     private final Int2ObjectMap<CompoundTag> chatTypes = new Int2ObjectOpenHashMap<>();
 
+    /**
+     * Returns a copy of the stored dimension data. The stored tags are shared between connections,
+     * while the returned copy is written into packets that later protocols modify in place.
+     *
+     * @param dimensionKey dimension key, with or without the minecraft namespace
+     * @return copy of the dimension data, or null if not present
+     */
     public @Nullable CompoundTag dimension(final String dimensionKey) {
         final CompoundTag compoundTag = dimensions.get(Key.stripMinecraftNamespace(dimensionKey));
         return compoundTag != null ? compoundTag.copy() : null;
     }
 
     public void addDimension(final String dimensionKey, final CompoundTag dimension) {
-        dimensions.put(dimensionKey, dimension);
+        dimensions.put(dimensionKey, SharedTags.intern(dimension));
     }
 
     public @Nullable CompoundTag chatType(final int id) {
@@ -46,7 +54,7 @@ public final class DimensionRegistryStorage implements StorableObject {
     }
 
     public void addChatType(final int id, final CompoundTag chatType) {
-        chatTypes.put(id, chatType);
+        chatTypes.put(id, SharedTags.intern(chatType));
     }
 
     public void clear() {
@@ -24,6 +24,7 @@ import com.viaversion.viabackwards.api.rewriters.SoundRewriter;
 import com.viaversion.viabackwards.protocol.v1_20_2to1_20.provider.AdvancementCriteriaProvider;
 import com.viaversion.viabackwards.protocol.v1_20_2to1_20.rewriter.BlockItemPacketRewriter1_20_2;
 import com.viaversion.viabackwards.protocol.v1_20_2to1_20.rewriter.EntityPacketRewriter1_20_2;
+import com.viaversion.viabackwards.protocol.v1_20_2to1_20.storage.ChunkBatchStorage;
 import com.viaversion.viabackwards.protocol.v1_20_2to1_20.storage.ConfigurationPacketStorage;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.minecraft.entities.EntityTypes1_19_4;
@@ -112,6 +113,7 @@ public final class Protocol1_20_2To1_20 extends BackwardsProtocol<ClientboundPac
         registerClientbound(ClientboundPackets1_20_2.START_CONFIGURATION, null, wrapper -> {
             wrapper.cancel();
             wrapper.user().getProtocolInfo().setServerState(State.CONFIGURATION);
+            wrapper.user().get(ChunkBatchStorage.class).abortMeasurement();
 
             // TODO: Check whether all the necessary data for the join game packet is always expected by the client or if we need to cache it from the initial login
             final PacketWrapper configAcknowledgedPacket = wrapper.create(ServerboundPackets1_20_2.CONFIGURATION_ACKNOWLEDGED);
@@ -195,6 +197,11 @@ public final class Protocol1_20_2To1_20 extends BackwardsProtocol<ClientboundPac
         } else if (id == ServerboundPackets1_19_4.KEEP_ALIVE.getId()) {
             wrapper.setPacketType(ServerboundConfigurationPackets1_20_2.KEEP_ALIVE);
         } else if (id == ServerboundPackets1_19_4.PONG.getId()) {
+            // Chunk batch pings sent before the configuration phase may still be answered here
+            final int pingId = wrapper.passthrough(Types.INT);
+            if (wrapper.user().get(ChunkBatchStorage.class).handlePong(pingId)) {
+                throw CancelException.generate();
+            }
             wrapper.setPacketType(ServerboundConfigurationPackets1_20_2.PONG);
         } else if (id == ServerboundPackets1_19_4.RESOURCE_PACK.getId()) {
             wrapper.setPacketType(ServerboundConfigurationPackets1_20_2.RESOURCE_PACK);
@@ -211,7 +218,9 @@ public final class Protocol1_20_2To1_20 extends BackwardsProtocol<ClientboundPac
 
     @Override
     public void init(final UserConnection connection) {
+        super.init(connection);
         addEntityTracker(connection, new EntityTrackerBase(connection, EntityTypes1_19_4.PLAYER));
+        connection.put(new ChunkBatchStorage());
     }
 
     @Override
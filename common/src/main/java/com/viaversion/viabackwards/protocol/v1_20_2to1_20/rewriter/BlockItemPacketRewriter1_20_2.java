@@ -24,6 +24,7 @@ import com.viaversion.nbt.tag.Tag;
 import com.viaversion.viabackwards.api.rewriters.BackwardsItemRewriter;
 import com.viaversion.viabackwards.protocol.v1_20_2to1_20.Protocol1_20_2To1_20;
 import com.viaversion.viabackwards.protocol.v1_20_2to1_20.provider.AdvancementCriteriaProvider;
+import com.viaversion.viabackwards.protocol.v1_20_2to1_20.storage.ChunkBatchStorage;
 import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.data.entity.EntityTracker;
@@ -40,6 +41,7 @@ import com.viaversion.viaversion.api.type.Type;
 import com.viaversion.viaversion.api.type.Types;
 import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_18;
 import com.viaversion.viaversion.api.type.types.chunk.ChunkType1_20_2;
+import com.viaversion.viaversion.protocols.v1_19_3to1_19_4.packet.ClientboundPackets1_19_4;
 import com.viaversion.viaversion.protocols.v1_19_3to1_19_4.packet.ServerboundPackets1_19_4;
 import com.viaversion.viaversion.protocols.v1_20to1_20_2.data.PotionEffects1_20_2;
 import com.viaversion.viaversion.protocols.v1_20to1_20_2.packet.ClientboundPackets1_20_2;
@@ -70,14 +72,35 @@ public final class BlockItemPacketRewriter1_20_2 extends BackwardsItemRewriter<C
         registerMerchantOffers1_19(ClientboundPackets1_20_2.MERCHANT_OFFERS);
         registerSetCreativeModeSlot(ServerboundPackets1_19_4.SET_CREATIVE_MODE_SLOT);
 
-        protocol.cancelClientbound(ClientboundPackets1_20_2.CHUNK_BATCH_START);
+        protocol.registerClientbound(ClientboundPackets1_20_2.CHUNK_BATCH_START, null, wrapper -> {
+            wrapper.cancel();
+            final int pingId = wrapper.user().get(ChunkBatchStorage.class).onBatchStart();
+            if (pingId != 0) {
+                // Measure how long the client takes to get through the batch, see ChunkBatchStorage
+                sendPing(wrapper, pingId);
+            }
+        });
         protocol.registerClientbound(ClientboundPackets1_20_2.CHUNK_BATCH_FINISHED, null, wrapper -> {
             wrapper.cancel();
 
+            final ChunkBatchStorage chunkBatchStorage = wrapper.user().get(ChunkBatchStorage.class);
+            final int batchSize = wrapper.read(Types.VAR_INT);
+            final int pingId = chunkBatchStorage.onBatchFinished(batchSize);
+            if (pingId != 0) {
+                sendPing(wrapper, pingId);
+            }
+
+            // Acknowledge right away so a client that never answers the ping can't stall chunk sending
             final PacketWrapper receivedPacket = wrapper.create(ServerboundPackets1_20_2.CHUNK_BATCH_RECEIVED);
-            receivedPacket.write(Types.FLOAT, 500F); // Requested next batch size... arbitrary value here
+            receivedPacket.write(Types.FLOAT, chunkBatchStorage.desiredChunksPerTick());
             receivedPacket.sendToServer(Protocol1_20_2To1_20.class);
         });
+        protocol.registerServerbound(ServerboundPackets1_19_4.PONG, wrapper -> {
+            final int id = wrapper.passthrough(Types.INT);
+            if (wrapper.user().get(ChunkBatchStorage.class).handlePong(id)) {
+                wrapper.cancel();
+            }
+        });
 
         protocol.registerClientbound(ClientboundPackets1_20_2.FORGET_LEVEL_CHUNK, wrapper -> {
             final ChunkPosition chunkPosition = wrapper.read(Types.CHUNK_POSITION);
@@ -210,6 +233,12 @@ public final class BlockItemPacketRewriter1_20_2 extends BackwardsItemRewriter<C
         }.register(ClientboundPackets1_20_2.UPDATE_RECIPES);
     }
 
+    private static void sendPing(final PacketWrapper wrapper, final int pingId) {
+        final PacketWrapper pingPacket = wrapper.create(ClientboundPackets1_19_4.PING);
+        pingPacket.write(Types.INT, pingId);
+        pingPacket.send(Protocol1_20_2To1_20.class);
+    }
+
     @Override
     public @Nullable Item handleItemToClient(UserConnection connection, @Nullable final Item item) {
         if (item == null) {
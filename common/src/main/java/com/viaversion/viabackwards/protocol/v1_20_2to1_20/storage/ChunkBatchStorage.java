@@ -0,0 +1,157 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.protocol.v1_20_2to1_20.storage;
+
+import com.viaversion.viaversion.api.connection.StorableObject;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estimates how many chunks per tick the client can handle, mirroring the batch size calculation of 1.20.2+ clients.
+ * Older clients don't acknowledge chunk batches, so the batch is bracketed by two pings. The client handles pings in
+ * order with the chunks, so the time between the two pongs is the time it needed to receive and process the batch,
+ * without the round trip both pongs share.
+ */
+public final class ChunkBatchStorage implements StorableObject {
+
+    private static final int MAX_OLD_SAMPLES_WEIGHT = 49;
+    private static final int CLAMP_COEFFICIENT = 3;
+    private static final double NANOS_PER_TICK_BUDGET = 7_000_000D; // Same tick budget as the vanilla client
+    private static final float MIN_CHUNKS_PER_TICK = 1F;
+    private static final float MAX_CHUNKS_PER_TICK = 64F; // Servers clamp the desired batch size to this anyway
+    private static final long MEASUREMENT_TIMEOUT = TimeUnit.SECONDS.toNanos(30);
+    private double aggregatedNanosPerChunk = NANOS_PER_TICK_BUDGET / MAX_CHUNKS_PER_TICK;
+    private int oldSamplesWeight = 1;
+    private int startPingId;
+    private int endPingId;
+    private long measurementStartTime;
+    private long startPongTime = -1;
+    private int pendingBatchSize;
+    private boolean measuringBatch;
+    private boolean discardSample;
+
+    /**
+     * Marks the start of a batch and returns the id of the ping to send before its chunks,
+     * or 0 if a previous measurement is still pending.
+     *
+     * @return id of the ping to send, or 0
+     */
+    public int onBatchStart() {
+        final long now = System.nanoTime();
+        if ((startPingId != 0 || endPingId != 0) && now - measurementStartTime < MEASUREMENT_TIMEOUT) {
+            return 0;
+        }
+
+        // Anything still pending at this point won't be answered anymore
+        endPingId = 0;
+        startPongTime = -1;
+        startPingId = nextPingId();
+        measurementStartTime = now;
+        measuringBatch = true;
+        discardSample = false;
+        return startPingId;
+    }
+
+    /**
+     * Marks the end of the current batch and returns the id of the ping to send after its chunks,
+     * or 0 if the batch is not being measured or was empty.
+     *
+     * @param batchSize number of chunks in the batch
+     * @return id of the ping to send, or 0
+     */
+    public int onBatchFinished(final int batchSize) {
+        if (!measuringBatch) {
+            return 0;
+        }
+
+        measuringBatch = false;
+        if (batchSize <= 0) {
+            return 0;
+        }
+
+        pendingBatchSize = batchSize;
+        endPingId = nextPingId();
+        return endPingId;
+    }
+
+    /**
+     * Handles a pong from the client.
+     *
+     * @param id ping id
+     * @return true if the pong answered a batch ping and should not be passed to the server
+     */
+    public boolean handlePong(final int id) {
+        if (id == 0) {
+            return false;
+        }
+
+        if (id == startPingId) {
+            startPingId = 0;
+            startPongTime = System.nanoTime();
+            return true;
+        }
+        if (id != endPingId) {
+            return false;
+        }
+
+        endPingId = 0;
+        if (startPongTime != -1 && !discardSample) {
+            addSample((double) (System.nanoTime() - startPongTime) / pendingBatchSize);
+        }
+        startPongTime = -1;
+        return true;
+    }
+
+    /**
+     * Discards the current measurement, for example when the client is sent back into the configuration phase.
+     * Pongs of already sent pings are still recognized, but don't produce a sample.
+     */
+    public void abortMeasurement() {
+        measuringBatch = false;
+        discardSample = true;
+    }
+
+    private void addSample(final double nanosPerChunk) {
+        final double clampedNanosPerChunk = Math.max(aggregatedNanosPerChunk / CLAMP_COEFFICIENT, Math.min(nanosPerChunk, aggregatedNanosPerChunk * CLAMP_COEFFICIENT));
+        aggregatedNanosPerChunk = (aggregatedNanosPerChunk * oldSamplesWeight + clampedNanosPerChunk) / (oldSamplesWeight + 1);
+        oldSamplesWeight = Math.min(MAX_OLD_SAMPLES_WEIGHT, oldSamplesWeight + 1);
+    }
+
+    private static int nextPingId() {
+        return ThreadLocalRandom.current().nextInt() | Integer.MIN_VALUE; // Never 0
+    }
+
+    /**
+     * Returns the estimated number of chunks per tick the client can handle.
+     *
+     * @return desired chunks per tick
+     */
+    public float desiredChunksPerTick() {
+        final float chunksPerTick = (float) (NANOS_PER_TICK_BUDGET / aggregatedNanosPerChunk);
+        return Math.max(MIN_CHUNKS_PER_TICK, Math.min(MAX_CHUNKS_PER_TICK, chunksPerTick));
+    }
+
+    /**
+     * Returns the estimated time in nanoseconds the client needs to receive and process a chunk.
+     *
+     * @return estimated nanoseconds per chunk
+     */
+    public double nanosPerChunk() {
+        return aggregatedNanosPerChunk;
+    }
+}
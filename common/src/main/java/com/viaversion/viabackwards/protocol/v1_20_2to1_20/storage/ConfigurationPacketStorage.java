@@ -27,8 +27,10 @@ import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.protocols.v1_19_3to1_19_4.packet.ClientboundPackets1_19_4;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiConsumer;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 public final class ConfigurationPacketStorage implements StorableObject {
@@ -40,7 +42,7 @@ public final class ConfigurationPacketStorage implements StorableObject {
     private QueuedPacket resourcePack;
 
     public void setResourcePack(final PacketWrapper wrapper) {
-        resourcePack = toQueuedPacket(wrapper, ClientboundPackets1_19_4.RESOURCE_PACK);
+        setResourcePack(toQueuedPacket(wrapper, ClientboundPackets1_19_4.RESOURCE_PACK));
     }
 
     public CompoundTag registry() {
@@ -64,11 +66,23 @@ public final class ConfigurationPacketStorage implements StorableObject {
         rawPackets.add(toQueuedPacket(wrapper, type));
     }
 
+    void addRawPacket(final QueuedPacket packet) {
+        rawPackets.add(packet);
+    }
+
+    void setResourcePack(final QueuedPacket packet) {
+        if (resourcePack != null) {
+            resourcePack.buf().release();
+        }
+        resourcePack = packet;
+    }
+
     private QueuedPacket toQueuedPacket(final PacketWrapper wrapper, final PacketType type) {
         Preconditions.checkArgument(!wrapper.isCancelled(), "Wrapper should be cancelled AFTER calling toQueuedPacket");
 
         // It's easier to just copy it to a byte array buffer than to manually read the data
-        final ByteBuf buf = Unpooled.buffer();
+        final Channel channel = wrapper.user().getChannel();
+        final ByteBuf buf = channel != null ? channel.alloc().buffer() : Unpooled.buffer();
         //noinspection deprecation
         wrapper.setId(-1); // Don't write the packet id to the buffer
         wrapper.writeToBuffer(buf);
@@ -76,22 +90,32 @@ public final class ConfigurationPacketStorage implements StorableObject {
     }
 
     public void sendQueuedPackets(final UserConnection connection) {
+        sendQueuedPackets((type, buf) -> PacketWrapper.create(type, buf, connection).send(Protocol1_20_2To1_20.class));
+    }
+
+    void sendQueuedPackets(final BiConsumer<PacketType, ByteBuf> sender) {
         // Send resource pack at the end
         List<QueuedPacket> packets = rawPackets;
+        final QueuedPacket resourcePack = this.resourcePack;
         if (resourcePack != null) {
             packets = new ArrayList<>(rawPackets);
             packets.add(resourcePack);
-            resourcePack = null;
+            this.resourcePack = null;
         }
 
-        for (final QueuedPacket queuedPacket : packets) {
-            // Don't clear the list or use the original buffer, we might need them later if a server skips subsequent config phases
-            final ByteBuf buf = queuedPacket.buf().copy();
-            try {
-                final PacketWrapper packet = PacketWrapper.create(queuedPacket.packetType(), buf, connection);
-                packet.send(Protocol1_20_2To1_20.class);
-            } finally {
-                buf.release();
+        try {
+            for (final QueuedPacket queuedPacket : packets) {
+                // Don't clear the list or consume the original buffer, we might need them later if a server skips subsequent config phases
+                final ByteBuf buf = queuedPacket.buf().duplicate().retain();
+                try {
+                    sender.accept(queuedPacket.packetType(), buf);
+                } finally {
+                    buf.release();
+                }
+            }
+        } finally {
+            if (resourcePack != null) {
+                resourcePack.buf().release();
             }
         }
     }
@@ -104,6 +128,18 @@ public final class ConfigurationPacketStorage implements StorableObject {
         this.finished = finished;
     }
 
+    @Override
+    public void onRemove() {
+        for (final QueuedPacket queuedPacket : rawPackets) {
+            queuedPacket.buf().release();
+        }
+        rawPackets.clear();
+        if (resourcePack != null) {
+            resourcePack.buf().release();
+            resourcePack = null;
+        }
+    }
+
     public record QueuedPacket(ByteBuf buf, PacketType packetType) {
     }
 }
@@ -380,6 +380,7 @@ public final class Protocol1_20_3To1_20_2 extends BackwardsProtocol<ClientboundP
 
     @Override
     public void init(final UserConnection connection) {
+        super.init(connection);
         connection.put(new SpawnPositionStorage());
         addEntityTracker(connection, new EntityTrackerBase(connection, EntityTypes1_20_3.PLAYER));
     }
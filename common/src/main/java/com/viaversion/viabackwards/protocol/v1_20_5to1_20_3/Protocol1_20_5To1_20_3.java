@@ -182,7 +182,7 @@ public final class Protocol1_20_5To1_20_3 extends BackwardsProtocol<ClientboundP
         final RegistryDataStorage registryDataStorage = connection.get(RegistryDataStorage.class);
         if (!registryDataStorage.sentRegistryData()) {
             final PacketWrapper registryDataPacket = PacketWrapper.create(ClientboundConfigurationPackets1_20_3.REGISTRY_DATA, connection);
-            registryDataPacket.write(Types.COMPOUND_TAG, registryDataStorage.registryData().copy());
+            registryDataPacket.write(Types.COMPOUND_TAG, registryDataStorage.registryData());
             registryDataPacket.send(Protocol1_20_5To1_20_3.class);
             registryDataStorage.setSentRegistryData();
         }
@@ -221,6 +221,7 @@ public final class Protocol1_20_5To1_20_3 extends BackwardsProtocol<ClientboundP
 
     @Override
     public void init(final UserConnection user) {
+        super.init(user);
         addEntityTracker(user, new EntityTrackerBase(user, EntityTypes1_20_5.PLAYER));
         user.put(new SecureChatStorage());
         user.put(new CookieStorage());
@@ -23,7 +23,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 public final class RegistryDataStorage implements StorableObject {
 
-    private final CompoundTag registryData = new CompoundTag();
+    private CompoundTag registryData = new CompoundTag();
     private String[] dimensionKeys;
     private boolean sentRegistryData;
 
@@ -37,6 +37,8 @@ public final class RegistryDataStorage implements StorableObject {
 
     public void setSentRegistryData() {
         this.sentRegistryData = true;
+        // Handed over to the packet, no need to keep it around for the rest of the session
+        this.registryData = new CompoundTag();
     }
 
     public String @Nullable [] dimensionKeys() {
@@ -93,6 +93,7 @@ public final class Protocol1_20To1_19_4 extends BackwardsProtocol<ClientboundPac
 
     @Override
     public void init(final UserConnection user) {
+        super.init(user);
         addEntityTracker(user, new EntityTrackerBase(user, EntityTypes1_19_4.PLAYER));
     }
 
@@ -25,16 +25,25 @@ import com.viaversion.viaversion.api.type.Types;
 import com.viaversion.viaversion.protocols.v1_21to1_21_2.packet.ServerboundPackets1_21_2;
 
 public final class PlayerStorage extends PlayerPositionStorage {
-    private static final PlayerInput EMPTY = new PlayerInput(false, false, false, false, false, false, false);
+    private static final byte FORWARD = 1;
+    private static final byte BACKWARD = 1 << 1;
+    private static final byte LEFT = 1 << 2;
+    private static final byte RIGHT = 1 << 3;
+    private static final byte JUMP = 1 << 4;
+    private static final byte SNEAK = 1 << 5;
+    private static final byte SPRINT = 1 << 6;
     private static final float PLAYER_JUMP_HEIGHT = 0.42F;
 
     private float yaw;
     private float pitch;
+    // Rotation of the movement direction into the player's view, only updated on rotation changes
+    private double yawSin;
+    private double yawCos = 1;
 
     private boolean playerCommandTrackedSneaking;
     private boolean playerCommandTrackedSprinting;
 
-    private PlayerInput lastInput = EMPTY;
+    private byte lastInput;
     private double prevX;
     private double prevY;
     private double prevZ;
@@ -44,36 +53,38 @@ public final class PlayerStorage extends PlayerPositionStorage {
         final double deltaY = y() - prevY;
         final double deltaZ = z() - prevZ;
 
-        final double magnitude = Math.sqrt(deltaX * deltaX + deltaZ * deltaZ);
-        double directionX = magnitude > 0 ? deltaX / magnitude : 0;
-        double directionZ = magnitude > 0 ? deltaZ / magnitude : 0;
-
-        directionX = Math.max(-1, Math.min(1, directionX));
-        directionZ = Math.max(-1, Math.min(1, directionZ));
-
-        final double angle = Math.toRadians(-yaw);
-        final double newDirectionX = directionX * Math.cos(angle) - directionZ * Math.sin(angle);
-        final double newDirectionZ = directionX * Math.sin(angle) + directionZ * Math.cos(angle);
-
-        final boolean forward = newDirectionZ >= 0.65F;
-        final boolean backwards = newDirectionZ <= -0.65F;
-        final boolean left = newDirectionX >= 0.65F;
-        final boolean right = newDirectionX <= -0.65F;
-        final boolean jump = Math.abs(deltaY - PLAYER_JUMP_HEIGHT) <= 1E-4F;
+        byte input = 0;
+        if (deltaX != 0 || deltaZ != 0) {
+            final double magnitude = Math.sqrt(deltaX * deltaX + deltaZ * deltaZ);
+            final double directionX = Math.max(-1, Math.min(1, deltaX / magnitude));
+            final double directionZ = Math.max(-1, Math.min(1, deltaZ / magnitude));
+
+            final double newDirectionX = directionX * yawCos - directionZ * yawSin;
+            final double newDirectionZ = directionX * yawSin + directionZ * yawCos;
+            if (newDirectionZ >= 0.65F) {
+                input |= FORWARD;
+            } else if (newDirectionZ <= -0.65F) {
+                input |= BACKWARD;
+            }
+            if (newDirectionX >= 0.65F) {
+                input |= LEFT;
+            } else if (newDirectionX <= -0.65F) {
+                input |= RIGHT;
+            }
+        }
+        if (Math.abs(deltaY - PLAYER_JUMP_HEIGHT) <= 1E-4F) {
+            input |= JUMP;
+        }
+        if (playerCommandTrackedSneaking) {
+            input |= SNEAK;
+        }
+        if (playerCommandTrackedSprinting) {
+            input |= SPRINT;
+        }
 
-        final PlayerInput input = new PlayerInput(forward, backwards, left, right, jump, playerCommandTrackedSneaking, playerCommandTrackedSprinting);
-        if (!lastInput.equals(input)) {
+        if (lastInput != input) {
             final PacketWrapper playerInputPacket = PacketWrapper.create(ServerboundPackets1_21_2.PLAYER_INPUT, user);
-            byte flags = 0;
-            flags = (byte) (flags | (input.forward() ? 1 : 0));
-            flags = (byte) (flags | (input.backward() ? 2 : 0));
-            flags = (byte) (flags | (input.left() ? 4 : 0));
-            flags = (byte) (flags | (input.right() ? 8 : 0));
-            flags = (byte) (flags | (input.jump() ? 16 : 0));
-            flags = (byte) (flags | (input.sneak() ? 32 : 0));
-            flags = (byte) (flags | (input.sprint() ? 64 : 0));
-            playerInputPacket.write(Types.BYTE, flags);
-
+            playerInputPacket.write(Types.BYTE, input);
             playerInputPacket.sendToServer(Protocol1_21_2To1_21.class);
             lastInput = input;
         }
@@ -92,6 +103,11 @@ public final class PlayerStorage extends PlayerPositionStorage {
     }
 
     public void setRotation(final float yaw, final float pitch) {
+        if (this.yaw != yaw) {
+            final double angle = Math.toRadians(-yaw);
+            this.yawSin = Math.sin(angle);
+            this.yawCos = Math.cos(angle);
+        }
         this.yaw = yaw;
         this.pitch = pitch;
     }
@@ -110,8 +126,4 @@ public final class PlayerStorage extends PlayerPositionStorage {
         return changed;
     }
 
-    public record PlayerInput(boolean forward, boolean backward, boolean left, boolean right, boolean jump,
-                              boolean sneak, boolean sprint) {
-    }
-
 }
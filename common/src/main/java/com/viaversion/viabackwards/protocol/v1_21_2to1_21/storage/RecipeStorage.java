@@ -27,9 +27,11 @@ import com.viaversion.viaversion.api.minecraft.item.StructuredItem;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.type.Types;
 import com.viaversion.viaversion.api.type.types.version.Types1_21_2;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectMap;
+import com.viaversion.viaversion.libs.fastutil.ints.Int2ObjectOpenHashMap;
 import com.viaversion.viaversion.protocols.v1_20_5to1_21.packet.ClientboundPackets1_21;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
 
 // Mostly a lost cause as the server will not send all the necessary data.
@@ -40,7 +42,7 @@ public final class RecipeStorage implements StorableObject {
     // Pairs of open + filtering for: Crafting, furnace, blast furnace, smoker
     public static final int RECIPE_BOOK_SETTINGS = 4 * 2;
     private static final String[] EMPTY_STRINGS = new String[0];
-    private final List<Recipe> recipes = new ArrayList<>(); // Recipes, excluding stone cutter recipes, in the order they were received
+    private final Int2ObjectMap<Recipe> recipes = new Int2ObjectOpenHashMap<>(); // Recipe index -> recipe, excluding stone cutter recipes
     private final List<Recipe> tempRecipes = new ArrayList<>(); // Recipes received in the current batch
     private final List<StoneCutterRecipe> stoneCutterRecipes = new ArrayList<>();
     private boolean[] recipeBookSettings = new boolean[RECIPE_BOOK_SETTINGS];
@@ -55,12 +57,24 @@ public final class RecipeStorage implements StorableObject {
         private static final int BLOCKS_CRAFTING_BOOK_CATEGORY = 1;
         private static final int MISC_CRAFTING_BOOK_CATEGORY = 2;
         protected int index;
+        private String identifier;
         private Integer group;
         private int category;
         private boolean highlight;
 
         abstract void write(PacketWrapper wrapper);
 
+        void setIndex(final int index) {
+            if (this.index != index || identifier == null) {
+                this.index = index;
+                this.identifier = RecipeStorage.identifier(index);
+            }
+        }
+
+        String identifier() {
+            return identifier;
+        }
+
         void writeGroup(final PacketWrapper wrapper) {
             wrapper.write(Types.STRING, group != null ? Integer.toString(group) : "");
         }
@@ -103,30 +117,33 @@ public final class RecipeStorage implements StorableObject {
     public void sendRecipes(final UserConnection connection) {
         // Fill from temp recipes so we can clear before if needed
         if (!tempRecipes.isEmpty()) {
-            this.recipes.addAll(tempRecipes);
+            for (final Recipe recipe : tempRecipes) {
+                recipes.put(recipe.index, recipe);
+            }
             tempRecipes.clear();
         }
 
-        int highestIndex = -1;
-        for (final Recipe recipe : recipes) {
-            highestIndex = Math.max(highestIndex, recipe.index);
+        // Sort by id
+        final int[] indexes = recipes.keySet().toIntArray();
+        Arrays.sort(indexes);
+
+        final List<Recipe> recipes = new ArrayList<>(indexes.length + stoneCutterRecipes.size());
+        for (final int index : indexes) {
+            recipes.add(this.recipes.get(index));
         }
 
         // Add stonecutter recipes from update_recipes
-        final List<Recipe> recipes = new ArrayList<>(this.recipes);
+        int highestIndex = indexes.length != 0 ? indexes[indexes.length - 1] : -1;
         for (final StoneCutterRecipe recipe : stoneCutterRecipes) {
-            recipe.index = ++highestIndex;
+            recipe.setIndex(++highestIndex);
             recipes.add(recipe);
         }
 
-        // Sort by id
-        recipes.sort(Comparator.comparingInt(a -> a.index));
-
         // Since the server only sends unlocked recipes, we need to re-send all recipes in UPDATE_RECIPES
         final PacketWrapper updateRecipesPacket = PacketWrapper.create(ClientboundPackets1_21.UPDATE_RECIPES, connection);
         updateRecipesPacket.write(Types.VAR_INT, recipes.size());
         for (final Recipe recipe : recipes) {
-            updateRecipesPacket.write(Types.STRING, identifier(recipe.index));
+            updateRecipesPacket.write(Types.STRING, recipe.identifier());
             recipe.write(updateRecipesPacket);
         }
         updateRecipesPacket.send(Protocol1_21_2To1_21.class);
@@ -136,12 +153,15 @@ public final class RecipeStorage implements StorableObject {
 
     private static String identifier(final int recipeIndex) {
         // Use index as the recipe identifier, add leading zeros to keept it sorted
-        return String.format("%06d", recipeIndex);
+        final String index = Integer.toString(recipeIndex);
+        return index.length() < 6 ? "000000".substring(index.length()) + index : index;
     }
 
     public void lockRecipes(final PacketWrapper wrapper, final int[] ids) {
-        for (final int id : ids) {
-            recipes.removeIf(recipe -> recipe.index == id);
+        final String[] recipeKeys = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            final Recipe recipe = recipes.remove(ids[i]);
+            recipeKeys[i] = recipe != null ? recipe.identifier() : identifier(ids[i]);
         }
 
         wrapper.write(Types.VAR_INT, 2); // Remove recipes
@@ -149,10 +169,6 @@ public final class RecipeStorage implements StorableObject {
             wrapper.write(Types.BOOLEAN, recipeBookSetting);
         }
 
-        final String[] recipeKeys = new String[ids.length];
-        for (int i = 0; i < ids.length; i++) {
-            recipeKeys[i] = identifier(ids[i]);
-        }
         wrapper.write(Types.STRING_ARRAY, recipeKeys);
     }
 
@@ -168,7 +184,7 @@ public final class RecipeStorage implements StorableObject {
         final String[] recipeKeys = new String[recipes.size()];
         final List<String> highlightRecipes = new ArrayList<>();
         for (int i = 0; i < recipes.size(); i++) {
-            recipeKeys[i] = identifier(i);
+            recipeKeys[i] = recipes.get(i).identifier();
             if (recipes.get(i).highlight) {
                 highlightRecipes.add(recipeKeys[i]);
             }
@@ -203,7 +219,7 @@ public final class RecipeStorage implements StorableObject {
         final byte flags = wrapper.read(Types.BYTE);
 
         if (recipe != null) {
-            recipe.index = id;
+            recipe.setIndex(id);
             recipe.group = group;
             recipe.category = category;
             recipe.highlight = (flags & 2) != 0;
@@ -20,7 +20,6 @@ package com.viaversion.viabackwards.protocol.v1_21_2to1_21.task;
 import com.viaversion.viabackwards.ViaBackwards;
 import com.viaversion.viabackwards.protocol.v1_21_2to1_21.Protocol1_21_2To1_21;
 import com.viaversion.viabackwards.protocol.v1_21_2to1_21.storage.PlayerStorage;
-import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.connection.ProtocolInfo;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
@@ -28,38 +27,87 @@ import com.viaversion.viaversion.api.protocol.packet.State;
 import com.viaversion.viaversion.protocols.v1_21to1_21_2.packet.ServerboundPackets1_21_2;
 import com.viaversion.viaversion.protocols.v1_21to1_21_2.storage.ClientVehicleStorage;
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
+/**
+ * Sends player input and client tick end packets for every tick. Connections are grouped by their event loop,
+ * so each tick only submits one task per event loop, which then handles all of its connections inline.
+ */
 public final class PlayerPacketsTickTask implements Runnable {
 
+    private static final Map<EventLoop, EventLoopTicker> TICKERS = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a connection using the 1.21.2->1.21 protocol. It is unregistered once its channel closes
+     * or the protocol is no longer part of its pipeline.
+     *
+     * @param user user connection
+     */
+    public static void register(final UserConnection user) {
+        final Channel channel = user.getChannel();
+        if (channel == null) {
+            return;
+        }
+
+        final EventLoopTicker ticker = TICKERS.computeIfAbsent(channel.eventLoop(), EventLoopTicker::new);
+        if (ticker.users.add(user)) {
+            channel.closeFuture().addListener(future -> ticker.users.remove(user));
+        }
+    }
+
     @Override
     public void run() {
-        for (final UserConnection user : Via.getManager().getConnectionManager().getConnections()) {
-            final ProtocolInfo protocolInfo = user.getProtocolInfo();
-            if (protocolInfo.getClientState() != State.PLAY || protocolInfo.getServerState() != State.PLAY || !protocolInfo.getPipeline().contains(Protocol1_21_2To1_21.class)) {
-                continue;
+        for (final EventLoopTicker ticker : TICKERS.values()) {
+            if (!ticker.users.isEmpty()) {
+                ticker.eventLoop.execute(ticker);
             }
+        }
+    }
+
+    private static final class EventLoopTicker implements Runnable {
 
-            final Channel channel = user.getChannel();
-            channel.eventLoop().submit(() -> {
-                if (!channel.isActive() || protocolInfo.getClientState() != State.PLAY || protocolInfo.getServerState() != State.PLAY) {
-                    return;
+        private final Set<UserConnection> users = ConcurrentHashMap.newKeySet();
+        private final EventLoop eventLoop;
+
+        private EventLoopTicker(final EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        @Override
+        public void run() {
+            for (final UserConnection user : users) {
+                final ProtocolInfo protocolInfo = user.getProtocolInfo();
+                if (!protocolInfo.getPipeline().contains(Protocol1_21_2To1_21.class)) {
+                    users.remove(user);
+                    continue;
                 }
-                try {
-                    if (!user.has(ClientVehicleStorage.class)) {
-                        final PlayerStorage playerStorage = user.get(PlayerStorage.class);
-                        playerStorage.tick(user);
-                    }
-                } catch (final Throwable t) {
-                    ViaBackwards.getPlatform().getLogger().log(Level.SEVERE, "Error while sending player input packet.", t);
+                if (!user.getChannel().isActive() || protocolInfo.getClientState() != State.PLAY || protocolInfo.getServerState() != State.PLAY) {
+                    continue;
                 }
-                try {
-                    final PacketWrapper clientTickEndPacket = PacketWrapper.create(ServerboundPackets1_21_2.CLIENT_TICK_END, user);
-                    clientTickEndPacket.sendToServer(Protocol1_21_2To1_21.class);
-                } catch (final Throwable t) {
-                    ViaBackwards.getPlatform().getLogger().log(Level.SEVERE, "Error while sending client tick end packet.", t);
+
+                tick(user);
+            }
+        }
+
+        private void tick(final UserConnection user) {
+            try {
+                if (!user.has(ClientVehicleStorage.class)) {
+                    final PlayerStorage playerStorage = user.get(PlayerStorage.class);
+                    playerStorage.tick(user);
                 }
-            });
+            } catch (final Throwable t) {
+                ViaBackwards.getPlatform().getLogger().log(Level.SEVERE, "Error while sending player input packet.", t);
+            }
+            try {
+                final PacketWrapper clientTickEndPacket = PacketWrapper.create(ServerboundPackets1_21_2.CLIENT_TICK_END, user);
+                clientTickEndPacket.sendToServer(Protocol1_21_2To1_21.class);
+            } catch (final Throwable t) {
+                ViaBackwards.getPlatform().getLogger().log(Level.SEVERE, "Error while sending client tick end packet.", t);
+            }
         }
     }
 }
@@ -175,6 +175,7 @@ public final class Protocol1_21_4To1_21_2 extends BackwardsProtocol<ClientboundP
 
     @Override
     public void init(final UserConnection user) {
+        super.init(user);
         addEntityTracker(user, new EntityTrackerBase(user, EntityTypes1_21_4.PLAYER));
     }
 
@@ -192,6 +192,7 @@ public final class Protocol1_21To1_20_5 extends BackwardsProtocol<ClientboundPac
 
     @Override
     public void init(final UserConnection user) {
+        super.init(user);
         addEntityTracker(user, new EntityTrackerBase(user, EntityTypes1_20_5.PLAYER));
         user.put(new EnchantmentsPaintingsStorage());
         user.put(new OpenScreenStorage());
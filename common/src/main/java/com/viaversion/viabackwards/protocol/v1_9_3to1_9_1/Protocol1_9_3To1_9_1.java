@@ -117,6 +117,7 @@ public class Protocol1_9_3To1_9_1 extends BackwardsProtocol<ClientboundPackets1_
 
     @Override
     public void init(UserConnection userConnection) {
+        super.init(userConnection);
         userConnection.addClientWorld(this.getClass(), new ClientWorld());
     }
 }
@@ -0,0 +1,42 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.utils;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.viaversion.nbt.tag.CompoundTag;
+
+/**
+ * Deduplicates registry tags kept in per-connection storages. Players on the same server receive the same registries,
+ * so each distinct tag only needs to be kept once. Entries are weakly held and disappear once no storage uses them anymore.
+ */
+public final class SharedTags {
+
+    private static final Interner<CompoundTag> TAGS = Interners.newWeakInterner();
+
+    /**
+     * Returns the shared instance equal to the given tag. The returned tag is shared between connections
+     * and must not be modified; neither must the given tag after it has been passed here.
+     *
+     * @param tag tag to deduplicate
+     * @return shared tag equal to the given one
+     */
+    public static CompoundTag intern(final CompoundTag tag) {
+        return TAGS.intern(tag);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.protocol.v1_19to1_18_2.storage;
+
+import com.viaversion.nbt.tag.CompoundTag;
+import com.viaversion.nbt.tag.StringTag;
+import com.viaversion.viabackwards.utils.SharedTags;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DimensionRegistryStorageTest {
+
+    @Test
+    void repeatedRespawnsKeepSharedDimension() {
+        final DimensionRegistryStorage storage = new DimensionRegistryStorage();
+        final DimensionRegistryStorage otherStorage = new DimensionRegistryStorage();
+        storage.addDimension("overworld", dimension());
+        otherStorage.addDimension("overworld", dimension());
+
+        for (int i = 0; i < 2; i++) {
+            final CompoundTag written = respawn(storage);
+            assertEquals("infiniburn_overworld", written.getString("infiniburn"));
+            assertEquals(256, written.getInt("height"));
+        }
+
+        assertEquals(dimension(), storage.dimension("minecraft:overworld"));
+        assertEquals(dimension(), otherStorage.dimension("overworld"));
+
+        // The interned instance must still match its content
+        final CompoundTag shared = SharedTags.intern(dimension());
+        assertEquals(dimension(), shared);
+        assertSame(shared, SharedTags.intern(dimension()));
+    }
+
+    @Test
+    void dimensionReturnsCopy() {
+        final DimensionRegistryStorage storage = new DimensionRegistryStorage();
+        storage.addDimension("overworld", dimension());
+        assertNotSame(storage.dimension("overworld"), storage.dimension("overworld"));
+    }
+
+    /**
+     * Does what the 1.19->1.18.2 RESPAWN handler writes and what the older protocols then modify in place.
+     */
+    private static CompoundTag respawn(final DimensionRegistryStorage storage) {
+        final CompoundTag tag = storage.dimension("minecraft:overworld");
+        assertNotNull(tag);
+
+        // 1.18.2->1.18 removes the tag prefix
+        final StringTag infiniburn = tag.getStringTag("infiniburn");
+        infiniburn.setValue(infiniburn.getValue().substring(1));
+
+        // 1.17->1.16.4 reduces the world height
+        tag.putInt("height", Math.min(256, tag.getInt("height")));
+        tag.putInt("logical_height", Math.min(256, tag.getInt("logical_height")));
+        return tag;
+    }
+
+    private static CompoundTag dimension() {
+        final CompoundTag tag = new CompoundTag();
+        tag.putString("infiniburn", "#infiniburn_overworld");
+        tag.putInt("min_y", -64);
+        tag.putInt("height", 384);
+        tag.putInt("logical_height", 384);
+        return tag;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of ViaBackwards - https://github.com/ViaVersion/ViaBackwards
+ * Copyright (C) 2016-2024 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.viaversion.viabackwards.protocol.v1_20_2to1_20.storage;
+
+import com.viaversion.viabackwards.protocol.v1_20_2to1_20.storage.ConfigurationPacketStorage.QueuedPacket;
+import com.viaversion.viaversion.api.protocol.packet.PacketType;
+import com.viaversion.viaversion.protocols.v1_19_3to1_19_4.packet.ClientboundPackets1_19_4;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.util.ResourceLeakDetector;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConfigurationPacketStorageTest {
+
+    private static ResourceLeakDetector.Level previousLevel;
+
+    @BeforeAll
+    static void enableLeakDetection() {
+        previousLevel = ResourceLeakDetector.getLevel();
+        ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.PARANOID);
+    }
+
+    @AfterAll
+    static void restoreLeakDetection() {
+        ResourceLeakDetector.setLevel(previousLevel);
+    }
+
+    @Test
+    void replayKeepsQueuedPackets() {
+        final ConfigurationPacketStorage storage = new ConfigurationPacketStorage();
+        final QueuedPacket first = queuedPacket(ClientboundPackets1_19_4.UPDATE_TAGS, 1);
+        final QueuedPacket second = queuedPacket(ClientboundPackets1_19_4.CUSTOM_PAYLOAD, 2);
+        storage.addRawPacket(first);
+        storage.addRawPacket(second);
+
+        for (int i = 0; i < 2; i++) {
+            final List<PacketType> sent = new ArrayList<>();
+            storage.sendQueuedPackets((type, buf) -> {
+                sent.add(type);
+                buf.readInt(); // Consume like the pipeline would
+            });
+            assertEquals(List.of(ClientboundPackets1_19_4.UPDATE_TAGS, ClientboundPackets1_19_4.CUSTOM_PAYLOAD), sent);
+        }
+
+        assertEquals(1, first.buf().refCnt());
+        assertEquals(0, first.buf().readerIndex());
+        assertEquals(1, second.buf().refCnt());
+
+        storage.onRemove();
+        assertEquals(0, first.buf().refCnt());
+        assertEquals(0, second.buf().refCnt());
+    }
+
+    @Test
+    void resourcePackIsSentOnceAndReleased() {
+        final ConfigurationPacketStorage storage = new ConfigurationPacketStorage();
+        final QueuedPacket packet = queuedPacket(ClientboundPackets1_19_4.UPDATE_TAGS, 1);
+        final QueuedPacket resourcePack = queuedPacket(ClientboundPackets1_19_4.RESOURCE_PACK, 2);
+        storage.addRawPacket(packet);
+        storage.setResourcePack(resourcePack);
+
+        final List<PacketType> sent = new ArrayList<>();
+        storage.sendQueuedPackets((type, buf) -> sent.add(type));
+        assertEquals(List.of(ClientboundPackets1_19_4.UPDATE_TAGS, ClientboundPackets1_19_4.RESOURCE_PACK), sent);
+        assertEquals(0, resourcePack.buf().refCnt());
+
+        sent.clear();
+        storage.sendQueuedPackets((type, buf) -> sent.add(type));
+        assertEquals(List.of(ClientboundPackets1_19_4.UPDATE_TAGS), sent);
+
+        storage.onRemove();
+        assertEquals(0, packet.buf().refCnt());
+    }
+
+    @Test
+    void replacedResourcePackIsReleased() {
+        final ConfigurationPacketStorage storage = new ConfigurationPacketStorage();
+        final QueuedPacket first = queuedPacket(ClientboundPackets1_19_4.RESOURCE_PACK, 1);
+        final QueuedPacket second = queuedPacket(ClientboundPackets1_19_4.RESOURCE_PACK, 2);
+        storage.setResourcePack(first);
+        storage.setResourcePack(second);
+        assertEquals(0, first.buf().refCnt());
+
+        storage.onRemove();
+        assertEquals(0, second.buf().refCnt());
+    }
+
+    @Test
+    void failedSendReleasesDuplicates() {
+        final ConfigurationPacketStorage storage = new ConfigurationPacketStorage();
+        final QueuedPacket packet = queuedPacket(ClientboundPackets1_19_4.UPDATE_TAGS, 1);
+        final QueuedPacket resourcePack = queuedPacket(ClientboundPackets1_19_4.RESOURCE_PACK, 2);
+        storage.addRawPacket(packet);
+        storage.setResourcePack(resourcePack);
+
+        assertThrows(IllegalStateException.class, () -> storage.sendQueuedPackets((type, buf) -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(1, packet.buf().refCnt());
+        assertEquals(0, resourcePack.buf().refCnt());
+
+        storage.onRemove();
+        assertEquals(0, packet.buf().refCnt());
+    }
+
+    private static QueuedPacket queuedPacket(final PacketType type, final int value) {
+        final ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer();
+        buf.writeInt(value);
+        return new QueuedPacket(buf, type);
+    }
+}